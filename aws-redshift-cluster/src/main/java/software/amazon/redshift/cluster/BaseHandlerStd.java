@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.redshift.model.ClusterSnapshotCopyStatus;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.RedshiftException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -25,16 +26,18 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
-  private Logger logger;
-
   protected int CREATE_TAGS_INDEX = 0;
   protected int DELETE_TAGS_INDEX = 1;
   protected int ADD_IAM_ROLES_INDEX = 0;
@@ -47,7 +50,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected final String AQUA_STATUS_APPLYING = "applying";
   protected final int CALLBACK_DELAY_SECONDS = 30;
   protected final int WAIT_TIME_IN_SECS_AFTER_INITIAL_MODIFY_CLUSTER_API_CALL = 10;
-  private static boolean IS_CLUSTER_PATCHED = false;
   private final static int MAX_RETRIES_FOR_AQUA_CHECK = 6;
   private final static int MAX_RETRIES_FOR_PATCHING_CHECK = 6;
 
@@ -61,13 +63,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   protected static final Constant CREATE_BACKOFF_STRATEGY = Constant.of().
           timeout(Duration.ofMinutes(60L)).delay(Duration.ofSeconds(5L)).build();
 
+  protected static final Duration TRANSIENT_STATE_RETRY_BUDGET = Duration.ofMinutes(30L);
+  // statuses a cluster leaves without anyone acting on it
+  protected static final Set<String> RETRYABLE_CLUSTER_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+          "creating", "modifying", "rebooting", "renaming", "resizing", "resuming",
+          "rotating-keys", "updating-hsm", "cancelling-resize")));
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    this.logger = logger;
     return handleRequest(
       proxy,
       request,
@@ -192,10 +199,45 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return isClusterActive(proxyClient,model, cxt);
   }
 
+  /**
+   * An update is a no-op when the previous and desired models only differ in spellings the
+   * {@link ClusterModelNormalizer} treats as equal, in ordering of Tags or in the formatting of the
+   * NamespaceResourcePolicy, and RotateEncryptionKey is not asking for a rotation on this update.
+   */
+  protected boolean isNoOpUpdate(final ResourceModel prevModel, final ResourceModel model,
+                                 final Map<String, String> previousTags, final Map<String, String> desiredTags,
+                                 final Logger logger) {
+    if (prevModel == null || BooleanUtils.isTrue(model.getRotateEncryptionKey())) {
+      return false;
+    }
+    return Objects.equals(previousTags, desiredTags) &&
+            Translator.isPolicyEquivalent(prevModel.getNamespaceResourcePolicy(), model.getNamespaceResourcePolicy(), logger) &&
+            normalizeModel(prevModel).equals(normalizeModel(model));
+  }
+
+  /**
+   * True when ResourceAction is the only property that differs between the previous and desired models.
+   */
+  protected boolean isResourceActionOnlyUpdate(final ResourceModel prevModel, final ResourceModel model,
+                                               final Map<String, String> previousTags, final Map<String, String> desiredTags,
+                                               final Logger logger) {
+    return prevModel != null && ObjectUtils.notEqual(prevModel.getResourceAction(), model.getResourceAction()) &&
+            isNoOpUpdate(prevModel.toBuilder().resourceAction(model.getResourceAction()).build(), model, previousTags, desiredTags, logger);
+  }
+
+  private ResourceModel normalizeModel(final ResourceModel model) {
+    return ClusterModelNormalizer.normalize(model).toBuilder()
+            .tags(null)
+            .namespaceResourcePolicy(null)
+            .build();
+  }
+
   protected boolean issueResizeClusterRequest(ResourceModel prevModel, ResourceModel model) {
-    return  ObjectUtils.notEqual(prevModel.getNodeType(), model.getNodeType()) ||
+    return  ObjectUtils.notEqual(ClusterModelNormalizer.canonicalValue("NodeType", prevModel.getNodeType()),
+                    ClusterModelNormalizer.canonicalValue("NodeType", model.getNodeType())) ||
             ObjectUtils.notEqual(prevModel.getNumberOfNodes(), model.getNumberOfNodes()) ||
-            ObjectUtils.notEqual(prevModel.getClusterType(), model.getClusterType());
+            ObjectUtils.notEqual(ClusterModelNormalizer.canonicalValue("ClusterType", prevModel.getClusterType()),
+                    ClusterModelNormalizer.canonicalValue("ClusterType", model.getClusterType()));
   }
 
   protected boolean issueModifyClusterMaintenanceRequest(ResourceModel model) {
@@ -313,6 +355,30 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return false;
   }
 
+  /*
+  dynamic parameters are applied without a reboot, so once a parameter group's values changed only a static
+  parameter still waiting for the reboot makes one necessary. When the cluster doesn't report per-parameter
+  statuses the group status decides, like isRebootRequired.
+   */
+  protected boolean isStaticParameterRebootRequired(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
+    List<Cluster> clusters = proxyClient.injectCredentialsAndInvokeV2(
+            Translator.translateToDescribeClusterRequest(model), proxyClient.client()::describeClusters)
+            .clusters();
+    if (CollectionUtils.isNullOrEmpty(clusters) || CollectionUtils.isNullOrEmpty(clusters.get(0).clusterParameterGroups())) {
+      return false;
+    }
+    ClusterParameterGroupStatus parameterGroupStatus = clusters.get(0).clusterParameterGroups().get(0);
+    if (!PARAMETER_GROUP_STATUS_PENDING_REBOOT.equals(parameterGroupStatus.parameterApplyStatus())) {
+      return false;
+    }
+    if (CollectionUtils.isNullOrEmpty(parameterGroupStatus.clusterParameterStatusList())) {
+      return true;
+    }
+    return parameterGroupStatus.clusterParameterStatusList()
+            .stream()
+            .anyMatch(parameterStatus -> PARAMETER_GROUP_STATUS_PENDING_REBOOT.equals(parameterStatus.parameterApplyStatus()));
+  }
+
   protected boolean isAQUAStatusApplying(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
     List<Cluster> clusters = proxyClient.injectCredentialsAndInvokeV2(
             Translator.translateToDescribeClusterRequest(model), proxyClient.client()::describeClusters)
@@ -339,6 +405,73 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return false;
   }
 
+  /*
+  InvalidClusterState mostly means another operation still holds the cluster, e.g. a scheduled resize
+  or a maintenance window. Instead of failing the stack we let the proxy retry the call, paced by the
+  backoff delay of the chain, as long as a describe shows a status the cluster leaves on its own and
+  the stalled call is within TRANSIENT_STATE_RETRY_BUDGET. A cluster already back to available only
+  gets a single retry, in case the conflict cleared before the describe; a persistent InvalidClusterState
+  on an available cluster is a real rejection.
+   */
+  protected boolean isRetryableClusterStateError(final Object awsRequest,
+                                                 final Exception exception,
+                                                 final ProxyClient<RedshiftClient> proxyClient,
+                                                 final ResourceModel model,
+                                                 final CallbackContext cxt,
+                                                 final Logger logger) {
+    if (!isCausedBy(exception, InvalidClusterStateException.class)) {
+      return false;
+    }
+
+    final long now = System.currentTimeMillis();
+    final String stalledCall = stalledCallKey(awsRequest);
+    final boolean firstConflict = cxt.getTransientStateWaitStart() == 0L || !stalledCall.equals(cxt.getTransientStateWaitCall());
+    if (firstConflict) {
+      cxt.setTransientStateWaitStart(now);
+      cxt.setTransientStateWaitCall(stalledCall);
+    }
+    if (now - cxt.getTransientStateWaitStart() > TRANSIENT_STATE_RETRY_BUDGET.toMillis()) {
+      logger.log(String.format("%s %s is still busy after %s, giving up.", ResourceModel.TYPE_NAME,
+              model.getClusterIdentifier(), TRANSIENT_STATE_RETRY_BUDGET));
+      return false;
+    }
+
+    final String clusterStatus;
+    try {
+      clusterStatus = proxyClient.injectCredentialsAndInvokeV2(
+              DescribeClustersRequest.builder().clusterIdentifier(model.getClusterIdentifier()).build(),
+              proxyClient.client()::describeClusters)
+              .clusters()
+              .stream()
+              .findAny()
+              .map(Cluster::clusterStatus)
+              .orElse(null);
+    } catch (final ClusterNotFoundException e) {
+      return false;
+    }
+
+    final boolean retryable = clusterStatus != null && (RETRYABLE_CLUSTER_STATUSES.contains(clusterStatus.toLowerCase()) ||
+            firstConflict && CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(clusterStatus));
+    logger.log(String.format("%s %s is in state %s, %s.", ResourceModel.TYPE_NAME, model.getClusterIdentifier(),
+            clusterStatus, retryable ? "retrying once it settles" : "not retrying"));
+    return retryable;
+  }
+
+  // identifies the stalled call, so the retry budget restarts for every other call of the operation
+  protected static String stalledCallKey(final Object awsRequest) {
+    return awsRequest == null ? "" : awsRequest.getClass().getSimpleName() + "#" + awsRequest.hashCode();
+  }
+
+  protected static boolean isCausedBy(final Throwable throwable, final Class<? extends Throwable> type) {
+    // handlers wrap service exceptions into Cfn exceptions, look through the cause chain
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (type.isInstance(cause)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // with the existing dependencies,
   // the static method takes some effort to unit test,
   // will cover it later when upgrading the dependencies
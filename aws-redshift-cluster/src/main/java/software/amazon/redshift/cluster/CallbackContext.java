@@ -20,6 +20,10 @@ public class CallbackContext extends StdCallbackContext {
     boolean callbackAfterClusterCreate = false;
     boolean callbackAfterClusterRestore = false;
     boolean callbackAfterAfterClusterParameterGroupNameModify = false;
+    // when the stalled call first hit a cluster busy with another operation, bounds the wait and retry of that call
+    long transientStateWaitStart = 0L;
+    // the call the wait above belongs to, another stalled call starts its own wait
+    String transientStateWaitCall;
 
     public void setNamespaceArn(String namespaceArn) {this.namespaceArn = namespaceArn; }
 
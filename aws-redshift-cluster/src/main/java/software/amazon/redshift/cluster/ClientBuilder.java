@@ -1,12 +1,33 @@
 package software.amazon.redshift.cluster;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.regions.providers.DefaultAwsRegionProviderChain;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 public class ClientBuilder {
+  // clients are thread safe and costly to build, warm invocations reuse the one built for their region
+  private static final ConcurrentMap<Region, RedshiftClient> CLIENTS = new ConcurrentHashMap<>();
+
   static RedshiftClient getClient() {
+    return getClient(new DefaultAwsRegionProviderChain().getRegion());
+  }
+
+  static RedshiftClient getClient(final Region region) {
+    return CLIENTS.computeIfAbsent(region, ClientBuilder::buildClient);
+  }
+
+  static RedshiftClient buildClient(final Region region) {
     return RedshiftClient.builder()
+            .region(region)
             .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                .addExecutionInterceptor(new RequestRateLimiter())
+                .build())
             .build();
   }
 }
@@ -0,0 +1,117 @@
+package software.amazon.redshift.cluster;
+
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical forms of cluster properties for change detection. Values the service treats as the same,
+ * e.g. reordered security groups or "DC2.Large" and "dc2.large", must not turn into a ModifyCluster
+ * or a ResizeCluster followed by minutes of stabilization.
+ */
+final class ClusterModelNormalizer {
+  // lists the schema declares with "insertionOrder": false, the service reports them in its own order
+  static final Set<String> ORDER_INSENSITIVE_ATTRIBUTES =
+          unorderedListProperties(new Configuration().resourceSchemaJSONObject());
+
+  // accepted in any case, reported lower cased
+  static final Set<String> CASE_INSENSITIVE_ATTRIBUTES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+          "NodeType", "ClusterType", "PreferredMaintenanceWindow")));
+
+  // ddd:hh24:mi-ddd:hh24:mi, the service also takes full day names and single digit hours
+  private static final Pattern MAINTENANCE_WINDOW = Pattern.compile(
+          "^([a-z]{3})[a-z]*:(\\d{1,2}):(\\d{2})-([a-z]{3})[a-z]*:(\\d{1,2}):(\\d{2})$");
+  // "1", "1.0" and "1.00" all name the same engine version
+  private static final Pattern MAJOR_CLUSTER_VERSION = Pattern.compile("^(\\d+)(\\.0+)?$");
+
+  private ClusterModelNormalizer() {
+  }
+
+  /**
+   * Canonical value of a ResourceModel attribute, equal for any two spellings the service treats alike
+   *
+   * @param attribute property name as in the schema, e.g. VpcSecurityGroupIds
+   * @param value the model value
+   * @return the canonical value, only meant for comparisons
+   */
+  static Object canonicalValue(final String attribute, final Object value) {
+    if (value instanceof List && ORDER_INSENSITIVE_ATTRIBUTES.contains(attribute)) {
+      return sortedCopy((List<?>) value);
+    }
+    if (!(value instanceof String)) {
+      return value;
+    }
+
+    String canonical = ((String) value).trim();
+    if (CASE_INSENSITIVE_ATTRIBUTES.contains(attribute)) {
+      canonical = canonical.toLowerCase(Locale.ROOT);
+    }
+    if ("PreferredMaintenanceWindow".equals(attribute)) {
+      final Matcher window = MAINTENANCE_WINDOW.matcher(canonical);
+      if (window.matches()) {
+        canonical = String.format("%s:%02d:%s-%s:%02d:%s",
+                window.group(1), Integer.parseInt(window.group(2)), window.group(3),
+                window.group(4), Integer.parseInt(window.group(5)), window.group(6));
+      }
+    } else if ("ClusterVersion".equals(attribute)) {
+      final Matcher version = MAJOR_CLUSTER_VERSION.matcher(canonical);
+      if (version.matches()) {
+        canonical = version.group(1) + ".0";
+      }
+    }
+    return canonical;
+  }
+
+  /**
+   * Copy of the model with every attribute the normalizer knows in its canonical form
+   *
+   * @param model resource model
+   * @return normalized copy, only meant for comparisons
+   */
+  static ResourceModel normalize(final ResourceModel model) {
+    return model.toBuilder()
+            .iamRoles(canonicalList("IamRoles", model.getIamRoles()))
+            .vpcSecurityGroupIds(canonicalList("VpcSecurityGroupIds", model.getVpcSecurityGroupIds()))
+            .clusterSecurityGroups(canonicalList("ClusterSecurityGroups", model.getClusterSecurityGroups()))
+            .tags(canonicalList("Tags", model.getTags()))
+            .nodeType((String) canonicalValue("NodeType", model.getNodeType()))
+            .clusterType((String) canonicalValue("ClusterType", model.getClusterType()))
+            .clusterVersion((String) canonicalValue("ClusterVersion", model.getClusterVersion()))
+            .preferredMaintenanceWindow((String) canonicalValue("PreferredMaintenanceWindow", model.getPreferredMaintenanceWindow()))
+            .build();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> List<T> canonicalList(final String attribute, final List<T> values) {
+    return (List<T>) canonicalValue(attribute, values);
+  }
+
+  private static <T> List<T> sortedCopy(final List<T> values) {
+    final List<T> sorted = new ArrayList<>(values);
+    // Tag has no natural order, its generated toString covers key and value
+    sorted.sort(Comparator.comparing(String::valueOf));
+    return sorted;
+  }
+
+  static Set<String> unorderedListProperties(final JSONObject schema) {
+    final JSONObject properties = schema.getJSONObject("properties");
+    final Set<String> unordered = new HashSet<>();
+    for (String name : properties.keySet()) {
+      final JSONObject property = properties.getJSONObject(name);
+      // insertionOrder defaults to true
+      if ("array".equals(property.optString("type")) && !property.optBoolean("insertionOrder", true)) {
+        unordered.add(name);
+      }
+    }
+    return Collections.unmodifiableSet(unordered);
+  }
+}
@@ -70,7 +70,6 @@ import com.google.common.collect.Maps;
 
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
     private static final int MAX_CLUSTER_IDENTIFIER_LENGTH = 63;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -80,9 +79,7 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
-        prepareResourceModel(request);
+        prepareResourceModel(request, logger);
         final ResourceModel resourceModel = request.getDesiredResourceState();
 
         //Resource level + stack level tags
@@ -98,7 +95,7 @@ public class CreateHandler extends BaseHandlerStd {
                         return proxy.initiate("AWS-Redshift-Cluster::restoreFromClusterSnapshot", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToRestoreFromClusterSnapshotRequest)
                                 .backoffDelay(CREATE_BACKOFF_STRATEGY)
-                                .makeServiceCall(this::restoreFromClusterSnapshot)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> restoreFromClusterSnapshot(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterRestore()) {
@@ -117,7 +114,7 @@ public class CreateHandler extends BaseHandlerStd {
                         return proxy.initiate("AWS-Redshift-Cluster::createCluster", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, mergedTags))
                                 .backoffDelay(CREATE_BACKOFF_STRATEGY)
-                                .makeServiceCall(this::createClusterResource)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> createClusterResource(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterCreate()) {
@@ -136,8 +133,9 @@ public class CreateHandler extends BaseHandlerStd {
                     if (resourceModel.getLoggingProperties() != null) {
                         return proxy.initiate("AWS-Redshift-Cluster::enableLogging", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToEnableLoggingRequest)
-                                .makeServiceCall(this::enableLogging)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> enableLogging(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -146,8 +144,9 @@ public class CreateHandler extends BaseHandlerStd {
                     if (resourceModel.getClusterNamespaceArn() != null && resourceModel.getNamespaceResourcePolicy() != null) {
                         return proxy.initiate("AWS-Redshift-ResourcePolicy::Put", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(model -> Translator.translateToPutResourcePolicy(resourceModel, logger))
-                                .makeServiceCall(this::putNamespaceResourcePolicy)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> putNamespaceResourcePolicy(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -156,18 +155,20 @@ public class CreateHandler extends BaseHandlerStd {
                     if (resourceModel.getDeferMaintenance() != null && resourceModel.getDeferMaintenance())  {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterMaintenance", proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyClusterMaintenanceRequest)
-                                .makeServiceCall(this::modifyClusterMaintenance)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyClusterMaintenance(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
                 })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(ReadProfile.MODEL_PROPERTIES).handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private RestoreFromClusterSnapshotResponse restoreFromClusterSnapshot(
             final RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         RestoreFromClusterSnapshotResponse restoreFromClusterSnapshotResponse = null;
 
         try {
@@ -197,7 +198,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateClusterResponse createClusterResource(
             final CreateClusterRequest createRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         CreateClusterResponse createResponse = null;
 
         try {
@@ -223,7 +225,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private EnableLoggingResponse enableLogging(
             final EnableLoggingRequest enableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         EnableLoggingResponse enableLoggingResponse = null;
 
         try {
@@ -242,7 +245,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private PutResourcePolicyResponse putNamespaceResourcePolicy(
         final PutResourcePolicyRequest putRequest,
-        final ProxyClient<RedshiftClient> proxyClient) {
+        final ProxyClient<RedshiftClient> proxyClient,
+        final Logger logger) {
             PutResourcePolicyResponse putResponse = null;
 
         try {
@@ -262,7 +266,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private ModifyClusterMaintenanceResponse modifyClusterMaintenance(
             final ModifyClusterMaintenanceRequest modifyClusterMaintenanceRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyClusterMaintenanceResponse modifyClusterMaintenanceResponse = null;
 
         try {
@@ -282,7 +287,7 @@ public class CreateHandler extends BaseHandlerStd {
         return modifyClusterMaintenanceResponse;
     }
 
-    private void prepareResourceModel(ResourceHandlerRequest<ResourceModel> request) {
+    private void prepareResourceModel(ResourceHandlerRequest<ResourceModel> request, final Logger logger) {
         if (request.getDesiredResourceState() == null) {
             request.setDesiredResourceState(new ResourceModel());
         }
@@ -25,7 +25,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -34,8 +33,6 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         return ProgressEvent.progress(model, callbackContext)
@@ -50,8 +47,9 @@ public class DeleteHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-Cluster::Delete", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((_model) -> Translator.translateToDeleteRequest(_model, request.getSnapshotRequested()))
-                                .makeServiceCall(this::deleteResource)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> deleteResource(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActiveAfterDelete(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((response) -> {
                                     logger.log(String.format("%s %s deleted.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                     return ProgressEvent.defaultSuccessHandler(null);
@@ -61,7 +59,8 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteClusterResponse deleteResource(
             final DeleteClusterRequest deleteRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DeleteClusterResponse awsResponse = null;
         try {
             logger.log(String.format("%s %s deleteCluster", ResourceModel.TYPE_NAME, deleteRequest.clusterIdentifier()));
@@ -31,14 +31,21 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
     private final String DESCRIBE_LOGGING_ERROR = "not authorized to perform: redshift:DescribeLoggingStatus";
     private final String DESCRIBE_LOGGING_ERROR_CODE = "403";
     private final String GET_RESOURCE_POLICY_ERROR = "not authorized to perform: redshift:GetResourcePolicy";
     private final Integer GET_RESOURCE_POLICY_ERR_STATUS_CODE = 403;
     private final String RESOURCE_POLICY_UNSUPPORTED_ERROR = "The resource policy feature isn't supported";
     private final Integer RESOURCE_POLICY_UNSUPPORTED_ERR_STATUS_CODE = 400;
-    private boolean containsResourcePolicy = false;
+    private final ReadProfile readProfile;
+
+    public ReadHandler() {
+        this(ReadProfile.FULL);
+    }
+
+    public ReadHandler(final ReadProfile readProfile) {
+        this.readProfile = readProfile;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -47,12 +54,16 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
-        boolean clusterExists = doesClusterExist(proxyClient, model, model.getClusterIdentifier());
-        if(!clusterExists) {
+        /*
+        The describe response doubles as the existence check, so every profile starts with a single DescribeClusters.
+        LoggingProperties and NamespaceResourcePolicy are only fetched when the read profile asks for them.
+         */
+        final DescribeClustersResponse describeClustersResponse;
+        try {
+            describeClustersResponse = describeCluster(Translator.translateToDescribeClusterRequest(model), proxyClient, logger);
+        } catch (final CfnNotFoundException e) {
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .status(OperationStatus.FAILED)
                     .errorCode(HandlerErrorCode.NotFound)
@@ -60,44 +71,39 @@ public class ReadHandler extends BaseHandlerStd {
                     .build();
         }
 
-        /*
-        containsResourcePolicy will be true if NamespaceResourcePolicy property is included in the template.
-        This attribute will be used to decide if "not authorized to perform: redshift:GetResourcePolicy" errors
-        in Read handler should be suppressed or not.
-         */
-        containsResourcePolicy = model.getNamespaceResourcePolicy() != null;
-
-        return ProgressEvent.progress(model, callbackContext)
+        return ProgressEvent.progress(Translator.translateFromReadResponse(describeClustersResponse), callbackContext)
                 .then(progress -> {
-                        progress = proxy.initiate("AWS-Redshift-Cluster::DescribeLogging", proxyClient, model, callbackContext)
-                            .translateToServiceRequest(Translator::translateToDescribeStatusLoggingRequest)
-                            .makeServiceCall(this::describeLoggingStatus)
-                            .done(enableLoggingResponse -> {
-                                LoggingProperties loggingProperties = LoggingProperties.builder()
-                                        .bucketName(enableLoggingResponse.bucketName())
-                                        .s3KeyPrefix(enableLoggingResponse.s3KeyPrefix())
-                                        .build();
-                                callbackContext.setLoggingProperties(loggingProperties);
-                                model.setLoggingProperties(loggingProperties);
-                                return ProgressEvent.progress(model, callbackContext);
-                            });
+                    if (readProfile.includesLoggingProperties(model)) {
+                        return proxy.initiate("AWS-Redshift-Cluster::DescribeLogging", proxyClient, progress.getResourceModel(), callbackContext)
+                                .translateToServiceRequest(Translator::translateToDescribeStatusLoggingRequest)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> describeLoggingStatus(_awsRequest, _proxyClient, logger))
+                                .done((_request, _response, _client, _model, _context) -> {
+                                    if (_response != null) {
+                                        LoggingProperties loggingProperties = LoggingProperties.builder()
+                                                .bucketName(_response.bucketName())
+                                                .s3KeyPrefix(_response.s3KeyPrefix())
+                                                .build();
+                                        callbackContext.setLoggingProperties(loggingProperties);
+                                        _model.setLoggingProperties(loggingProperties);
+                                    }
+                                    return ProgressEvent.progress(_model, callbackContext);
+                                });
+                    }
                     return progress;
                 })
                 .then(progress -> {
-                    progress = proxy.initiate("AWS-Redshift-Cluster::DescribeCluster", proxyClient, progress.getResourceModel(), callbackContext)
-                            .translateToServiceRequest(Translator::translateToDescribeClusterRequest)
-                            .makeServiceCall(this::describeCluster)
-                            .done(describeResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(describeResponse), callbackContext));
-                    return  progress;
+                    if (readProfile.includesNamespaceResourcePolicy(model)) {
+                        return proxy.initiate("AWS-Redshift-ResourcePolicy::Get", proxyClient, progress.getResourceModel(), callbackContext)
+                                .translateToServiceRequest(Translator::translateToGetResourcePolicy)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> getNamespaceResourcePolicy(_awsRequest, _proxyClient, logger))
+                                .done((_request, _response, _client, _model, _context) -> {
+                                    _model.setNamespaceResourcePolicy(Translator.convertStringToJson(_response.resourcePolicy().policy(), logger));
+                                    return ProgressEvent.progress(_model, callbackContext);
+                                });
+                    }
+                    return progress;
                 })
-                .then(progress -> proxy.initiate("AWS-Redshift-ResourcePolicy::Get", proxyClient, progress.getResourceModel(), callbackContext)
-                        .translateToServiceRequest(Translator::translateToGetResourcePolicy)
-                        .makeServiceCall(this::getNamespaceResourcePolicy)
-                        .done((_request, _response, _client, _model, _context) -> {
-                            _model.setNamespaceResourcePolicy(Translator.convertStringToJson(_response.resourcePolicy().policy(), logger));
-                            _model.setLoggingProperties(callbackContext.getLoggingProperties());
-                            return ProgressEvent.defaultSuccessHandler(_model);
-                        }));
+                .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
 
     /**
@@ -109,7 +115,8 @@ public class ReadHandler extends BaseHandlerStd {
      */
     private DescribeClustersResponse describeCluster (
             final DescribeClustersRequest awsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DescribeClustersResponse awsResponse = null;
         try {
             logger.log(String.format("%s %s describeClusters.", ResourceModel.TYPE_NAME,
@@ -129,7 +136,8 @@ public class ReadHandler extends BaseHandlerStd {
 
     private DescribeLoggingStatusResponse describeLoggingStatus(
             final DescribeLoggingStatusRequest awsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DescribeLoggingStatusResponse awsResponse = null;
         try {
             awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeLoggingStatus);
@@ -161,7 +169,8 @@ public class ReadHandler extends BaseHandlerStd {
      */
     private GetResourcePolicyResponse getNamespaceResourcePolicy(
             final GetResourcePolicyRequest awsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         GetResourcePolicyResponse getResponse = null;
 
         try {
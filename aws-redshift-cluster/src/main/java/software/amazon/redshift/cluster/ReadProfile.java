@@ -0,0 +1,22 @@
+package software.amazon.redshift.cluster;
+
+/**
+ * Decides which sub-resources the ReadHandler fetches on top of DescribeClusters.
+ *  - CORE: DescribeClusters only
+ *  - MODEL_PROPERTIES: DescribeLoggingStatus / GetResourcePolicy only when the model sets
+ *    LoggingProperties / NamespaceResourcePolicy
+ *  - FULL: always fetch every sub-resource, used by the CloudFormation Read operation
+ */
+public enum ReadProfile {
+    CORE,
+    MODEL_PROPERTIES,
+    FULL;
+
+    boolean includesLoggingProperties(final ResourceModel model) {
+        return this == FULL || (this == MODEL_PROPERTIES && model.getLoggingProperties() != null);
+    }
+
+    boolean includesNamespaceResourcePolicy(final ResourceModel model) {
+        return this == FULL || (this == MODEL_PROPERTIES && model.getNamespaceResourcePolicy() != null);
+    }
+}
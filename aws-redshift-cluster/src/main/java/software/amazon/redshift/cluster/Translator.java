@@ -73,6 +73,10 @@ public class Translator {
   private static String FINAL_SNAPSHOT_SUFFIX = "-final-snapshot";
   private static int ADD_IAM_ROLES_INDEX = 0;
   private static int REMOVE_IAM_ROLES_INDEX = 1;
+  // ObjectMapper is thread-safe once configured, so a single instance serves every policy conversion
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TypeReference<HashMap<String, Object>> POLICY_TYPE_REFERENCE = new TypeReference<HashMap<String, Object>>() {
+  };
   private static String CLUSTER_TYPE_SINGLE_NODE = "single-node";
   private static String CLUSTER_TYPE_MULTI_NODE = "multi-node";
   private static String MULTIAZ_ENABLED = "Enabled";
@@ -959,10 +963,9 @@ public class Translator {
    * @return Json converted String
    */
   static String convertJsonToString(Map<String, Object> policy, Logger logger) {
-    ObjectMapper mapper = new ObjectMapper();
     String json = "";
     try {
-      json = mapper.writeValueAsString(policy);
+      json = OBJECT_MAPPER.writeValueAsString(policy);
     } catch (JsonProcessingException e) {
       logger.log("Error parsing Policy Json to String");
     }
@@ -976,16 +979,13 @@ public class Translator {
    * @return Json object Map
    */
   static Map<String, Object> convertStringToJson(String policy, Logger logger) {
-    ObjectMapper mapper = new ObjectMapper();
     Map<String, Object> json = null;
-    TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
-    };
     try {
       if (policy != null) {
           if (policy.isEmpty()) {
               logger.log("Empty NamespaceResourcePolicy");
           } else {
-              json = mapper.readValue(URLDecoder.decode(policy, StandardCharsets.UTF_8.toString()), typeRef);
+              json = OBJECT_MAPPER.readValue(URLDecoder.decode(policy, StandardCharsets.UTF_8.toString()), POLICY_TYPE_REFERENCE);
         }
       }
     } catch (IOException e) {
@@ -993,4 +993,50 @@ public class Translator {
     }
     return json;
   }
+
+  /**
+   * Canonical form of a policy document: keys are sorted, single element arrays are unwrapped and
+   * array elements are sorted, so two policies IAM treats as the same produce the same string.
+   * @param policy Policy Document Map, already URL-decoded
+   * @param logger Logger to log Json processing error
+   * @return canonical policy String, or null for a null policy
+   */
+  static String canonicalizePolicy(Map<String, Object> policy, Logger logger) {
+    if (policy == null) {
+      return null;
+    }
+    return convertJsonToString(canonicalizePolicyNode(policy), logger);
+  }
+
+  /**
+   * @return true if both policy documents are equivalent once canonicalized
+   */
+  static boolean isPolicyEquivalent(Map<String, Object> previousPolicy, Map<String, Object> desiredPolicy, Logger logger) {
+    return Objects.equals(canonicalizePolicy(previousPolicy, logger), canonicalizePolicy(desiredPolicy, logger));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object canonicalizePolicyNode(Object node) {
+    if (node instanceof Map) {
+      Map<String, Object> canonical = new TreeMap<>();
+      ((Map<String, Object>) node).forEach((key, value) -> canonical.put(key, canonicalizePolicyNode(value)));
+      return canonical;
+    }
+    if (node instanceof List) {
+      List<Object> elements = ((List<Object>) node).stream()
+              .map(Translator::canonicalizePolicyNode)
+              .sorted(Comparator.comparing(Translator::policyNodeSortKey))
+              .collect(Collectors.toList());
+      return elements.size() == 1 ? elements.get(0) : elements;
+    }
+    return node;
+  }
+
+  private static String policyNodeSortKey(Object node) {
+    try {
+      return OBJECT_MAPPER.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      return String.valueOf(node);
+    }
+  }
 }
@@ -8,6 +8,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudwatch.model.InvalidParameterValueException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.BucketNotFoundException;
+import software.amazon.awssdk.services.redshift.model.Cluster;
 import software.amazon.awssdk.services.redshift.model.ClusterAlreadyExistsException;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterOnLatestRevisionException;
@@ -106,10 +107,10 @@ import java.util.Map;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
     private final String RESOURCE_NAME_PREFIX = "arn:aws:redshift:";
 
     /*
@@ -152,8 +153,6 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         Map<String, String> allDesiredTags = new HashMap<>();
@@ -167,6 +166,42 @@ public class UpdateHandler extends BaseHandlerStd {
         allPreviousTags.putAll(Optional.ofNullable(Translator.translateFromResourceModelToSdkTags(
                 request.getPreviousResourceState().getTags())).orElse(Collections.emptyMap()));
 
+        // Nothing to modify (e.g. parent stack update), a single describe confirms the cluster and fills read-only properties
+        if (!Boolean.TRUE.equals(request.getDriftable()) &&
+                isNoOpUpdate(request.getPreviousResourceState(), model, allPreviousTags, allDesiredTags, logger)) {
+            logger.log(String.format("%s %s has no changes, skipping update.", ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
+            final ProgressEvent<ResourceModel, CallbackContext> readEvent =
+                    new ReadHandler(ReadProfile.CORE).handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            if (readEvent.getStatus() == OperationStatus.SUCCESS) {
+                readEvent.getResourceModel().setLoggingProperties(model.getLoggingProperties());
+                readEvent.getResourceModel().setNamespaceResourcePolicy(model.getNamespaceResourcePolicy());
+            }
+            return readEvent;
+        }
+
+        // Pause/resume driven by ResourceAction alone only needs the action itself and its stabilization
+        if (!Boolean.TRUE.equals(request.getDriftable()) &&
+                isResourceActionOnlyUpdate(request.getPreviousResourceState(), model, allPreviousTags, allDesiredTags, logger)) {
+            final AtomicReference<ResourceModel> stabilizedModel = new AtomicReference<>();
+            if (PAUSE_CLUSTER.equals(model.getResourceAction())) {
+                return proxy.initiate("AWS-Redshift-Cluster::PauseCluster", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToPauseClusterRequest)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> pauseCluster(_awsRequest, _proxyClient, logger))
+                        .stabilize((_request, _response, _client, _model, _context) -> isClusterStabilizedAfterResourceAction(_client, _model, stabilizedModel, logger))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
+                        .done((_request, _response, _client, _model, _context) -> ProgressEvent.defaultSuccessHandler(stabilizedModel.get()));
+            }
+            if (RESUME_CLUSTER.equals(model.getResourceAction()) &&
+                    PAUSE_CLUSTER.equals(request.getPreviousResourceState().getResourceAction())) {
+                return proxy.initiate("AWS-Redshift-Cluster::ResumeCluster", proxyClient, model, callbackContext)
+                        .translateToServiceRequest(Translator::translateToResumeClusterRequest)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> resumeCluster(_awsRequest, _proxyClient, logger))
+                        .stabilize((_request, _response, _client, _model, _context) -> isClusterStabilizedAfterResourceAction(_client, _model, stabilizedModel, logger))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
+                        .done((_request, _response, _client, _model, _context) -> ProgressEvent.defaultSuccessHandler(stabilizedModel.get()));
+            }
+        }
+
         if (!callbackContext.getClusterExistsCheck()) {
             boolean clusterExists = doesClusterExist(proxyClient, model, model.getClusterIdentifier());
             callbackContext.setClusterExistsCheck(true);
@@ -182,11 +217,13 @@ public class UpdateHandler extends BaseHandlerStd {
         //Redshift is Driftable
         if(request.getDriftable() != null && request.getDriftable().equals(true)) {
             logger.log(String.format("%s %s is Drifted", ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
-            if(isRebootRequired(model, proxyClient)) {
+            // the parameter group itself didn't change here, so a reboot only pays off for static parameter changes
+            if(isStaticParameterRebootRequired(model, proxyClient)) {
                 return proxy.initiate("AWS-Redshift-Cluster::RebootCluster", proxyClient, model, callbackContext)
                         .translateToServiceRequest(Translator::translateToRebootClusterRequest)
-                        .makeServiceCall(this::rebootCluster)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> rebootCluster(_awsRequest, _proxyClient, logger))
                         .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                         .progress();
             }
         }
@@ -197,8 +234,9 @@ public class UpdateHandler extends BaseHandlerStd {
                             PAUSE_CLUSTER.equals(request.getPreviousResourceState().getResourceAction())) {
                         return proxy.initiate("AWS-Redshift-Cluster::ResumeCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToResumeClusterRequest)
-                                .makeServiceCall(this::resumeCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> resumeCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -220,16 +258,18 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (!CollectionUtils.isNullOrEmpty(updateTags) && !CollectionUtils.isNullOrEmpty(updateTags.get(DELETE_TAGS_INDEX))) {
                         progress = proxy.initiate("AWS-Redshift-Cluster::DeleteTags", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((deleteTagsRequest) -> Translator.translateToDeleteTagsRequest(model, updateTags.get(DELETE_TAGS_INDEX), resourceName))
-                                .makeServiceCall(this::deleteTags)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> deleteTags(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
 
                     if (!CollectionUtils.isNullOrEmpty(updateTags) && !CollectionUtils.isNullOrEmpty(updateTags.get(CREATE_TAGS_INDEX))) {
                         progress = proxy.initiate("AWS-Redshift-Cluster::CreateTags", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((createTagsRequest) -> Translator.translateToCreateTagsRequest(model, updateTags.get(CREATE_TAGS_INDEX), resourceName))
-                                .makeServiceCall(this::createTags)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> createTags(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
 
@@ -241,8 +281,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if ((!CollectionUtils.isNullOrEmpty(iamRolesForUpdate)) && (!CollectionUtils.isNullOrEmpty(iamRolesForUpdate.get(ADD_IAM_ROLES_INDEX)) || !CollectionUtils.isNullOrEmpty(iamRolesForUpdate.get(DELETE_IAM_ROLES_INDEX)))) {
                         return proxy.initiate("AWS-Redshift-Cluster::UpdateClusterIAMRoles", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((iamRolesModifyRequest) -> Translator.translateToUpdateIAMRolesRequest(model, iamRolesForUpdate))
-                                .makeServiceCall(this::updateIAMRoles)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> updateIAMRoles(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -252,14 +293,16 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (model.getLoggingProperties() == null && isLoggingEnabled(proxyClient, model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::DisableLogging", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDisableLoggingRequest)
-                                .makeServiceCall(this::disableLogging)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> disableLogging(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     } else if (model.getLoggingProperties() != null && (ObjectUtils.notEqual(model.getLoggingProperties(), request.getPreviousResourceState().getLoggingProperties()))) {
                         return proxy.initiate("AWS-Redshift-Cluster::EnableLogging", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToEnableLoggingRequest)
-                                .makeServiceCall(this::enableLogging)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> enableLogging(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -267,7 +310,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress -> {
                     progress = proxy.initiate("AWS-Redshift-Cluster::DescribeClustersReadOnly", proxyClient, model, callbackContext)
                             .translateToServiceRequest(Translator::translateToDescribeClusterRequest)
-                            .makeServiceCall(this::describeCluster)
+                            .makeServiceCall((_awsRequest, _proxyClient) -> describeCluster(_awsRequest, _proxyClient, logger))
                             .done((_request, _response, _client, _model, _context) -> {
                                 _model = Translator.translateFromReadResponse(_response);
                                 model.setDeferMaintenanceIdentifier(_model.getDeferMaintenanceIdentifier());
@@ -281,13 +324,18 @@ public class UpdateHandler extends BaseHandlerStd {
                         if (model.getNamespaceResourcePolicy().isEmpty()) {
                                 return proxy.initiate("AWS-Redshift-Cluster::DeleteNamespaceResourcePolicy", proxyClient, model, callbackContext)
                                         .translateToServiceRequest(Translator::translateToDeleteResourcePolicyRequest)
-                                        .makeServiceCall(this::deleteNamespaceResourcePolicy)
+                                        .makeServiceCall((_awsRequest, _proxyClient) -> deleteNamespaceResourcePolicy(_awsRequest, _proxyClient, logger))
                                         .progress();
                         }
+                        else if (request.getPreviousResourceState() != null &&
+                                Translator.isPolicyEquivalent(request.getPreviousResourceState().getNamespaceResourcePolicy(), model.getNamespaceResourcePolicy(), logger)) {
+                            logger.log(String.format("%s %s NamespaceResourcePolicy is unchanged, skipping PutResourcePolicy.",
+                                    ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
+                        }
                         else {
                             return proxy.initiate("AWS-Redshift-Cluster::PutNamespaceResourcePolicy", proxyClient, model, callbackContext)
                                     .translateToServiceRequest(resourceModel -> Translator.translateToPutResourcePolicy(model, logger))
-                                    .makeServiceCall(this::putNamespaceResourcePolicy)
+                                    .makeServiceCall((_awsRequest, _proxyClient) -> putNamespaceResourcePolicy(_awsRequest, _proxyClient, logger))
                                     .progress();
                         }
                     }
@@ -298,8 +346,9 @@ public class UpdateHandler extends BaseHandlerStd {
                             isCrossRegionCopyEnabled(proxyClient, model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifySnapshotCopyRetentionPeriod", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToModifySnapshotCopyRetentionPeriodRequest)
-                                .makeServiceCall(this::modifySnapshotCopyRetentionPeriod)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifySnapshotCopyRetentionPeriod(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -310,16 +359,18 @@ public class UpdateHandler extends BaseHandlerStd {
                             && isCrossRegionCopyEnabled(proxyClient, model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::DisableSnapshotCopy", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDisableSnapshotRequest)
-                                .makeServiceCall(this::disableSnapshotCopy)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> disableSnapshotCopy(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
 
                     } else if (model.getDestinationRegion() != null) {
                         if (!isCrossRegionCopyEnabled(proxyClient, model)) {
                             return proxy.initiate("AWS-Redshift-Cluster::EnableSnapshotCopy", proxyClient, model, callbackContext)
                                     .translateToServiceRequest(Translator::translateToEnableSnapshotRequest)
-                                    .makeServiceCall(this::enableSnapshotCopy)
+                                    .makeServiceCall((_awsRequest, _proxyClient) -> enableSnapshotCopy(_awsRequest, _proxyClient, logger))
                                     .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                    .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                     .progress();
                         } else if (isCrossRegionCopyEnabled(proxyClient, model) &&
                                 !model.getDestinationRegion().equals(destinationRegionForCrossRegionCopy(proxyClient, model))) {
@@ -337,8 +388,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (issueModifyClusterMaintenanceRequest(model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterMaintenance", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyClusterMaintenanceRequest)
-                                .makeServiceCall(this::modifyClusterMaintenance)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyClusterMaintenance(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -348,8 +400,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if(model.getRevisionTarget() != null && !request.getPreviousResourceState().getRevisionTarget().equals(model.getRevisionTarget())) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterDbRevision", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToModifyClusterDbRevisionRequest)
-                                .makeServiceCall(this::modifyClusterDbRevision)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyClusterDbRevision(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterPatched(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterMaintenance()) {
                                         logger.log(String.format("Update Cluster Db Revision done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
@@ -367,8 +420,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (model.getAquaConfigurationStatus() != null && !model.getAquaConfigurationStatus().equals(request.getPreviousResourceState().getAquaConfigurationStatus())) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyAQUAConfiguration", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToModifyAquaConfigurationRequest)
-                                .makeServiceCall(this::modifyAquaConfiguration)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyAquaConfiguration(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isAquaConfigurationStatusApplied(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterAquaModify()) {
                                         logger.log(String.format("Update Aqua Configuration done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
@@ -387,8 +441,9 @@ public class UpdateHandler extends BaseHandlerStd {
                         return proxy.initiate("AWS-Redshift-Cluster::ResizeCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator:: translateToResizeClusterRequest)
                                 .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::resizeCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> resizeCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     logger.log(String.format("Resize Cluster complete. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                     if(!callbackContext.getCallBackAfterResize()) {
@@ -406,8 +461,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (issueModifyClusterParameterGroupRequest(request.getPreviousResourceState(), model)) {
                         return proxy.initiate("AWS-Redshift-Cluster::ModifyClusterParameterGroupName", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((modifyClusterRequest) -> Translator.translateToUpdateParameterGroupNameRequest(model, request.getPreviousResourceState()))
-                                .makeServiceCall(this::updateCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> updateCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> stabilizeClusterAfterClusterParameterGroupUpdate(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     if(!callbackContext.getCallbackAfterClusterParameterGroupNameModify()) {
                                         logger.log(String.format("Modify Cluster Parameter Group Name done. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
@@ -425,20 +481,22 @@ public class UpdateHandler extends BaseHandlerStd {
                     if ((issueModifyClusterParameterGroupRequest(request.getPreviousResourceState(), model) && isRebootRequired(model, proxyClient)) || isAQUAStatusApplying(model, proxyClient)){
                         return proxy.initiate("AWS-Redshift-Cluster::RebootCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToRebootClusterRequest)
-                                .makeServiceCall(this::rebootCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> rebootCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
                 })
 
                 .then(progress -> {
-                    if (shouldModifyCluster(request.getPreviousResourceState(), model)) {
+                    if (shouldModifyCluster(request.getPreviousResourceState(), model, logger)) {
                         return proxy.initiate("AWS-Redshift-Cluster::UpdateCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest((modifyClusterRequest) -> Translator.translateToUpdateRequest(model, request.getPreviousResourceState()))
                                 .backoffDelay(BACKOFF_STRATEGY)
-                                .makeServiceCall(this::updateCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> updateCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> stabilizeCluster(_client, _model, _context, request))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .done((_request, _response, _client, _model, _context) -> {
                                     logger.log(String.format("Modify Cluster complete. %s %s stabilized and available.",ResourceModel.TYPE_NAME, model.getClusterIdentifier()));
                                     if(!callbackContext.getCallBackForReboot()) {
@@ -456,8 +514,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if(model.getRotateEncryptionKey() != null && model.getRotateEncryptionKey()) {
                         return proxy.initiate("AWS-Redshift-Cluster::RotateEncryptionKey", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToRotateEncryptionKeyRequest)
-                                .makeServiceCall(this::rotateEncryptionKey)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> rotateEncryptionKey(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -467,8 +526,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (model.getResourceAction() != null && PAUSE_CLUSTER.equals(model.getResourceAction())) {
                         return proxy.initiate("AWS-Redshift-Cluster::PauseCluster", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToPauseClusterRequest)
-                                .makeServiceCall(this::pauseCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> pauseCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterPaused(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
@@ -478,18 +538,20 @@ public class UpdateHandler extends BaseHandlerStd {
                     if (model.getResourceAction() != null && FAILOVER_PRIMARY_COMPUTE.equals(model.getResourceAction()) && model.getMultiAZ()) {
                         return proxy.initiate("AWS-Redshift-Cluster::FailoverPrimaryCompute", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToFailoverPrimaryComputeRequest)
-                                .makeServiceCall(this::failoverPrimaryComputeCluster)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> failoverPrimaryComputeCluster(_awsRequest, _proxyClient, logger))
                                 .stabilize((_request, _response, _client, _model, _context) -> isClusterActive(_client, _model, _context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) -> isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress();
                     }
                     return progress;
                 })
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(progress -> new ReadHandler(ReadProfile.MODEL_PROPERTIES).handleRequest(proxy, request, callbackContext, proxyClient, logger));
         }
 
     private DescribeClustersResponse describeCluster (
             final DescribeClustersRequest awsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DescribeClustersResponse awsResponse = null;
         try {
             logger.log(String.format("%s %s describeClusters.", ResourceModel.TYPE_NAME,
@@ -508,7 +570,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifyClusterResponse updateCluster(
             final ModifyClusterRequest modifyRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyClusterResponse awsResponse = null;
 
         try {
@@ -549,7 +612,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifyClusterIamRolesResponse updateIAMRoles(
             final ModifyClusterIamRolesRequest modifyRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyClusterIamRolesResponse awsResponse = null;
 
         try {
@@ -572,7 +636,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ResizeClusterResponse resizeCluster(
             final ResizeClusterRequest resizeClusterRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ResizeClusterResponse resizeClusterResponse = null;
 
         try {
@@ -598,7 +663,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifyAquaConfigurationResponse modifyAquaConfiguration(
             final ModifyAquaConfigurationRequest modifyAquaConfigurationRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyAquaConfigurationResponse modifyAquaConfigurationResponse = null;
         try {
             logger.log(String.format("%s %s modifyAquaConfiguration.", ResourceModel.TYPE_NAME,
@@ -620,7 +686,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifyClusterMaintenanceResponse modifyClusterMaintenance(
             final ModifyClusterMaintenanceRequest modifyClusterMaintenanceRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyClusterMaintenanceResponse modifyClusterMaintenanceResponse = null;
 
         try {
@@ -643,7 +710,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifyClusterDbRevisionResponse modifyClusterDbRevision(
             final ModifyClusterDbRevisionRequest modifyClusterDbRevisionRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifyClusterDbRevisionResponse modifyClusterDbRevisionResponse = null;
 
         try {
@@ -666,7 +734,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private CreateTagsResponse createTags(
             final CreateTagsRequest createTagsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         CreateTagsResponse createTagsResponse = null;
 
         try {
@@ -688,7 +757,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private DeleteTagsResponse deleteTags(
             final DeleteTagsRequest deleteTagsRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DeleteTagsResponse deleteTagsResponse = null;
 
         try {
@@ -710,7 +780,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private DisableLoggingResponse disableLogging(
             final DisableLoggingRequest disableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DisableLoggingResponse disableLoggingResponse = null;
 
         try {
@@ -730,7 +801,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private EnableLoggingResponse enableLogging(
             final EnableLoggingRequest enableLoggingRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         EnableLoggingResponse enableLoggingResponse = null;
 
         try {
@@ -751,7 +823,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private EnableSnapshotCopyResponse enableSnapshotCopy(
             final EnableSnapshotCopyRequest enableSnapshotCopyRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         EnableSnapshotCopyResponse enableSnapshotCopyResponse = null;
         try {
             enableSnapshotCopyResponse = proxyClient.injectCredentialsAndInvokeV2(enableSnapshotCopyRequest, proxyClient.client()::enableSnapshotCopy);
@@ -774,7 +847,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private DisableSnapshotCopyResponse disableSnapshotCopy(
             final DisableSnapshotCopyRequest disableSnapshotCopyRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DisableSnapshotCopyResponse disableSnapshotCopyResponse = null;
 
         try {
@@ -795,7 +869,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ModifySnapshotCopyRetentionPeriodResponse modifySnapshotCopyRetentionPeriod(
             final ModifySnapshotCopyRetentionPeriodRequest modifySnapshotCopyRetentionPeriodRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ModifySnapshotCopyRetentionPeriodResponse modifySnapshotCopyRetentionPeriodResponse = null;
 
         try {
@@ -816,7 +891,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private RebootClusterResponse rebootCluster (
             final RebootClusterRequest rebootClusterRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         RebootClusterResponse rebootClusterResponse = null;
         try {
             logger.log(String.format("%s %s rebootCluster.", ResourceModel.TYPE_NAME,
@@ -837,7 +913,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private ResumeClusterResponse resumeCluster (
             final ResumeClusterRequest resumeClusterRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         ResumeClusterResponse resumeClusterResponse = null;
         try {
             logger.log(String.format("%s %s resumeCluster.", ResourceModel.TYPE_NAME,
@@ -856,9 +933,36 @@ public class UpdateHandler extends BaseHandlerStd {
         return resumeClusterResponse;
     }
 
+    /**
+     * Stabilizer for the pause/resume fast path. The describe used to check the cluster status also builds
+     * the returned model, so no separate read is needed once the cluster is paused or available again.
+     */
+    private boolean isClusterStabilizedAfterResourceAction(final ProxyClient<RedshiftClient> proxyClient,
+                                                           final ResourceModel model,
+                                                           final AtomicReference<ResourceModel> stabilizedModel,
+                                                           final Logger logger) {
+        final DescribeClustersResponse awsResponse = describeCluster(Translator.translateToDescribeClusterRequest(model), proxyClient, logger);
+        final Cluster cluster = awsResponse.clusters().stream()
+                .findAny()
+                .orElse(Cluster.builder().build());
+
+        final boolean stabilized = PAUSE_CLUSTER.equals(model.getResourceAction())
+                ? CLUSTER_STATUS_PAUSED.equals(cluster.clusterStatus())
+                : CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterStatus()) &&
+                        CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterAvailabilityStatus());
+        if (stabilized) {
+            final ResourceModel readModel = Translator.translateFromReadResponse(awsResponse);
+            readModel.setLoggingProperties(model.getLoggingProperties());
+            readModel.setNamespaceResourcePolicy(model.getNamespaceResourcePolicy());
+            stabilizedModel.set(readModel);
+        }
+        return stabilized;
+    }
+
     private PauseClusterResponse pauseCluster (
             final PauseClusterRequest pauseClusterRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         PauseClusterResponse pauseClusterResponse = null;
         try {
             logger.log(String.format("%s %s pauseCluster.", ResourceModel.TYPE_NAME,
@@ -879,7 +983,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private RotateEncryptionKeyResponse rotateEncryptionKey(
             final RotateEncryptionKeyRequest rotateEncryptionKeyRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         RotateEncryptionKeyResponse rotateEncryptionKeyResponse = null;
 
         try {
@@ -902,7 +1007,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private PutResourcePolicyResponse putNamespaceResourcePolicy(
             final PutResourcePolicyRequest putRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         PutResourcePolicyResponse putResponse = null;
 
         try {
@@ -920,7 +1026,8 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private DeleteResourcePolicyResponse deleteNamespaceResourcePolicy(final DeleteResourcePolicyRequest deleteRequest,
-                                                                       final ProxyClient<RedshiftClient> proxyClient) {
+                                                                       final ProxyClient<RedshiftClient> proxyClient,
+                                                                       final Logger logger) {
         DeleteResourcePolicyResponse deleteResponse = null;
         try{
             deleteResponse = proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::deleteResourcePolicy);
@@ -938,7 +1045,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private FailoverPrimaryComputeResponse failoverPrimaryComputeCluster(
             final FailoverPrimaryComputeRequest failoverPrimaryComputeRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         FailoverPrimaryComputeResponse failoverPrimaryComputeResponse = null;
 
         try {
@@ -978,7 +1086,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
     As always, never log anything sensitive :)
      */
-    private boolean shouldModifyCluster(ResourceModel oldModel, ResourceModel newModel) {
+    private boolean shouldModifyCluster(ResourceModel oldModel, ResourceModel newModel, final Logger logger) {
         // any 1 or more attribute value change regardless of sensitive/insensitive,
         // will trigger a modifyClusterRequest
         // get combined attributes (insensitive + sensitive)
@@ -994,10 +1102,13 @@ public class UpdateHandler extends BaseHandlerStd {
 
         // for loop to log every attribute's value change for debugging
         for (String attribute : allAttributes) {
-            final Object oldModelValue = getAttributeValue(oldModel, attribute);
-            final Object newModelValue = getAttributeValue(newModel, attribute);
+            final Object oldModelValue = getAttributeValue(oldModel, attribute, logger);
+            final Object newModelValue = getAttributeValue(newModel, attribute, logger);
 
-            boolean attributeValueChanged = ObjectUtils.notEqual(oldModelValue, newModelValue);
+            // reordered unordered lists, case or alias differences are not changes
+            boolean attributeValueChanged = ObjectUtils.notEqual(
+                    ClusterModelNormalizer.canonicalValue(attribute, oldModelValue),
+                    ClusterModelNormalizer.canonicalValue(attribute, newModelValue));
 
             // if an attribute changed, we log both values,
             // i.e. "PubliclyAccessible change from true to false"
@@ -1023,7 +1134,7 @@ public class UpdateHandler extends BaseHandlerStd {
         return shouldModifyCluster;
     }
 
-    private Object getAttributeValue(ResourceModel model, String attribute) {
+    private Object getAttributeValue(ResourceModel model, String attribute, final Logger logger) {
         try {
             Method getter = ResourceModel.class.getMethod("get" + attribute);
             return getter.invoke(model);
@@ -0,0 +1,51 @@
+package software.amazon.redshift.cluster;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientBuilderTest {
+    private static final int INVOCATIONS = 50;
+
+    @Test
+    public void testClientIsCachedPerRegion() {
+        final RedshiftClient client = ClientBuilder.getClient(Region.US_EAST_1);
+
+        assertThat(ClientBuilder.getClient(Region.US_EAST_1)).isSameAs(client);
+        assertThat(ClientBuilder.getClient(Region.US_WEST_2)).isNotSameAs(client);
+    }
+
+    /*
+    before/after cost of the client setup each invocation used to pay, only a measurement and opt-in since
+    timings on a shared build host are too noisy to assert on: mvn test -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    public void benchmarkPerInvocationSetupCost() {
+        // warm up both paths so class loading is not measured
+        ClientBuilder.buildClient(Region.US_EAST_1).close();
+        ClientBuilder.getClient(Region.US_EAST_1);
+
+        final long buildStart = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            ClientBuilder.buildClient(Region.US_EAST_1).close();
+        }
+        final long buildNanos = System.nanoTime() - buildStart;
+
+        final long cachedStart = System.nanoTime();
+        for (int i = 0; i < INVOCATIONS; i++) {
+            ClientBuilder.getClient(Region.US_EAST_1);
+        }
+        final long cachedNanos = System.nanoTime() - cachedStart;
+
+        System.out.println(String.format("client setup per invocation: %d us built, %d us cached (%d invocations)",
+                TimeUnit.NANOSECONDS.toMicros(buildNanos / INVOCATIONS),
+                TimeUnit.NANOSECONDS.toMicros(cachedNanos / INVOCATIONS),
+                INVOCATIONS));
+    }
+}
@@ -0,0 +1,52 @@
+package software.amazon.redshift.cluster;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClusterModelNormalizerTest {
+
+    @Test
+    public void testOrderInsensitiveAttributesComeFromSchema() {
+        assertThat(ClusterModelNormalizer.ORDER_INSENSITIVE_ATTRIBUTES)
+                .containsExactlyInAnyOrder("ClusterSecurityGroups", "IamRoles", "Tags", "VpcSecurityGroupIds");
+    }
+
+    @Test
+    public void testCanonicalValue() {
+        assertThat(ClusterModelNormalizer.canonicalValue("VpcSecurityGroupIds", Arrays.asList("sg-2", "sg-1")))
+                .isEqualTo(ClusterModelNormalizer.canonicalValue("VpcSecurityGroupIds", Arrays.asList("sg-1", "sg-2")));
+        assertThat(ClusterModelNormalizer.canonicalValue("NodeType", "DC2.Large")).isEqualTo("dc2.large");
+        assertThat(ClusterModelNormalizer.canonicalValue("ClusterType", "Multi-Node")).isEqualTo("multi-node");
+        assertThat(ClusterModelNormalizer.canonicalValue("ClusterVersion", "1")).isEqualTo("1.0");
+        assertThat(ClusterModelNormalizer.canonicalValue("PreferredMaintenanceWindow", "Sunday:3:00-SUN:03:30"))
+                .isEqualTo("sun:03:00-sun:03:30");
+
+        // anything the normalizer does not recognize is compared as is
+        assertThat(ClusterModelNormalizer.canonicalValue("PreferredMaintenanceWindow", "before-window")).isEqualTo("before-window");
+        assertThat(ClusterModelNormalizer.canonicalValue("ClusterVersion", "before-cv")).isEqualTo("before-cv");
+        assertThat(ClusterModelNormalizer.canonicalValue("ClusterIdentifier", "Cluster")).isEqualTo("Cluster");
+        assertThat(ClusterModelNormalizer.canonicalValue("NumberOfNodes", 2)).isEqualTo(2);
+        assertThat(ClusterModelNormalizer.canonicalValue("NodeType", null)).isNull();
+    }
+
+    @Test
+    public void testNormalize() {
+        final ResourceModel prevModel = ResourceModel.builder()
+                .nodeType("dc2.large")
+                .iamRoles(Arrays.asList("role-a", "role-b"))
+                .tags(Arrays.asList(Tag.builder().key("a").value("1").build(), Tag.builder().key("b").value("2").build()))
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .nodeType("DC2.LARGE")
+                .iamRoles(Arrays.asList("role-b", "role-a"))
+                .tags(Arrays.asList(Tag.builder().key("b").value("2").build(), Tag.builder().key("a").value("1").build()))
+                .build();
+
+        assertThat(ClusterModelNormalizer.normalize(model)).isEqualTo(ClusterModelNormalizer.normalize(prevModel));
+        assertThat(ClusterModelNormalizer.normalize(model.toBuilder().nodeType("ra3.xlplus").build()))
+                .isNotEqualTo(ClusterModelNormalizer.normalize(prevModel));
+    }
+}
@@ -113,9 +113,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .clusters(clusterWithTags)
                         .build());
 
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -138,7 +135,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 isEqualTo(request.getDesiredResourceState().getClusterIdentifier());
 
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(3))
+        verify(proxyClient.client(), times(2))
                 .describeClusters(any(DescribeClustersRequest.class));
 
     }
@@ -172,7 +169,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .loggingEnabled(true)
                         .lastSuccessfulDeliveryTime(Instant.now())
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -193,7 +189,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getClusterIdentifier()).
                 isEqualTo(request.getDesiredResourceState().getClusterIdentifier());
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(4))
+        verify(proxyClient.client(), times(3))
                 .describeClusters(any(DescribeClustersRequest.class));
 
     }
@@ -239,9 +235,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .clusters(multiAZCluster)
                         .build());
 
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -265,7 +258,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 isEqualTo(request.getDesiredResourceState().getMultiAZ());
 
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(3))
+        verify(proxyClient.client(), times(2))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
@@ -275,7 +268,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         requestModel.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_POLICY, logger));
 
         ResourceModel responseModel = createClusterResponseModel();
-        responseModel.setLoggingProperties(LOGGING_PROPERTIES_DISABLED);
         responseModel.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_POLICY, logger));
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -289,8 +281,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putResourcePolicy(any(PutResourcePolicyRequest.class))).thenReturn(putResourcePolicyResponseSdk());
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
         when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getResourcePolicyResponseSdk());
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -308,7 +298,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getResourceModel()).isEqualTo(responseModel);
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(4))
+        verify(proxyClient.client(), times(3))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
@@ -320,7 +310,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         requestModel.setDeferMaintenanceStartTime(DEFER_MAINTENANCE_START_TIME);
 
         ResourceModel responseModel = createClusterResponseModel();
-        responseModel.setLoggingProperties(LOGGING_PROPERTIES_DISABLED);
         responseModel.setDeferMaintenanceIdentifier(DEFER_MAINTENANCE_IDENTIFIER);
         responseModel.setDeferMaintenanceEndTime(DEFER_MAINTENANCE_END_TIME);
         responseModel.setDeferMaintenanceStartTime(DEFER_MAINTENANCE_START_TIME);
@@ -334,10 +323,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().createCluster(any(CreateClusterRequest.class))).thenReturn(createClusterResponseSdk());
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseWithDeferMaintenanceSdk());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
         when(proxyClient.client().modifyClusterMaintenance(any(ModifyClusterMaintenanceRequest.class))).thenReturn(getModifyClusterMaintenanceResponseSdk());
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -355,7 +341,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
         assertThat(response.getResourceModel()).isEqualTo(responseModel);
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(4))
+        verify(proxyClient.client(), times(3))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
@@ -381,9 +367,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(DescribeClustersResponse.builder()
                         .clusters(MANAGED_ADMIN_PASSWORD_CLUSTER)
                         .build());
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -408,7 +391,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getMasterUserPassword()).isNull();
 
         verify(proxyClient.client()).createCluster(any(CreateClusterRequest.class));
-        verify(proxyClient.client(), times(3))
+        verify(proxyClient.client(), times(2))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
@@ -433,9 +416,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenReturn(DescribeClustersResponse.builder()
                         .clusters(MANAGED_ADMIN_PASSWORD_CLUSTER)
                         .build());
-        when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class)))
-                .thenReturn(DescribeLoggingStatusResponse.builder().loggingEnabled(false).build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -460,7 +440,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getMasterUserPassword()).isNull();
 
         verify(proxyClient.client()).restoreFromClusterSnapshot(any(RestoreFromClusterSnapshotRequest.class));
-        verify(proxyClient.client(), times(3))
+        verify(proxyClient.client(), times(2))
                 .describeClusters(any(DescribeClustersRequest.class));
     }
 
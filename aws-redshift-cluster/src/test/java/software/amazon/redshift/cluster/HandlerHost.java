@@ -0,0 +1,72 @@
+package software.amazon.redshift.cluster;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test harness that serves many handler invocations concurrently on one JVM, to check handlers are reentrant.
+ * Handlers keep no per-request state, so a single instance per action is shared by every worker thread.
+ * Work is queued on a bounded executor; once the queue is full the submitting thread runs the request itself.
+ */
+class HandlerHost implements AutoCloseable {
+    private static final int QUEUE_CAPACITY_PER_WORKER = 16;
+
+    private final Map<Action, BaseHandlerStd> handlers = new EnumMap<>(Action.class);
+    private final ThreadPoolExecutor executor;
+
+    HandlerHost(final int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        handlers.put(Action.CREATE, new CreateHandler());
+        handlers.put(Action.READ, new ReadHandler());
+        handlers.put(Action.UPDATE, new UpdateHandler());
+        handlers.put(Action.DELETE, new DeleteHandler());
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(concurrency * QUEUE_CAPACITY_PER_WORKER),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "redshift-cluster-handler-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Runs the handler for the given action with a caller supplied client.
+     */
+    CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>> submit(
+            final Action action,
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
+        final BaseHandlerStd handler = handlers.get(action);
+        if (handler == null) {
+            throw new IllegalArgumentException(String.format("%s is not supported by the handler host", action));
+        }
+        return CompletableFuture.supplyAsync(() -> handler.handleRequest(proxy, request,
+                callbackContext != null ? callbackContext : new CallbackContext(), proxyClient, logger), executor);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
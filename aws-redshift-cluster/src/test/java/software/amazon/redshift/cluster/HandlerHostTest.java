@@ -0,0 +1,105 @@
+package software.amazon.redshift.cluster;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeLoggingStatusResponse;
+import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
+import software.amazon.cloudformation.Action;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class HandlerHostTest extends AbstractTestBase {
+    private static final int CONCURRENCY = 16;
+    private static final int REQUESTS = 400;
+
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
+
+    @Mock
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @Mock
+    RedshiftClient sdkClient;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @AfterEach
+    public void tear_down() {
+        verify(sdkClient, atLeastOnce()).serviceName();
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void testConcurrentReadsAreIsolated() {
+        // every cluster gets its own identifier and bucket, so a response leaking into another request shows up
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class))).thenAnswer(invocation -> {
+            final DescribeClustersRequest awsRequest = invocation.getArgument(0);
+            return DescribeClustersResponse.builder()
+                    .clusters(responseCluster().toBuilder().clusterIdentifier(awsRequest.clusterIdentifier()).build())
+                    .build();
+        });
+        when(sdkClient.describeLoggingStatus(any(DescribeLoggingStatusRequest.class))).thenAnswer(invocation -> {
+            final DescribeLoggingStatusRequest awsRequest = invocation.getArgument(0);
+            return DescribeLoggingStatusResponse.builder()
+                    .loggingEnabled(true)
+                    .bucketName("bucket-" + awsRequest.clusterIdentifier())
+                    .build();
+        });
+        when(sdkClient.getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
+
+        final List<CompletableFuture<ProgressEvent<ResourceModel, CallbackContext>>> responses = new ArrayList<>();
+        final long start = System.nanoTime();
+        try (HandlerHost host = new HandlerHost(CONCURRENCY)) {
+            for (int i = 0; i < REQUESTS; i++) {
+                final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                        .desiredResourceState(ResourceModel.builder().clusterIdentifier("cluster-" + i).build())
+                        .build();
+                responses.add(host.submit(Action.READ, proxy, request, new CallbackContext(), proxyClient, logger));
+            }
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+        }
+        final long elapsedMillis = Math.max(1L, Duration.ofNanos(System.nanoTime() - start).toMillis());
+        logger.log(String.format("%d concurrent reads in %d ms (%d requests/s)", REQUESTS, elapsedMillis, REQUESTS * 1000L / elapsedMillis));
+
+        for (int i = 0; i < REQUESTS; i++) {
+            final ProgressEvent<ResourceModel, CallbackContext> response = responses.get(i).join();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getClusterIdentifier()).isEqualTo("cluster-" + i);
+            assertThat(response.getResourceModel().getLoggingProperties().getBucketName()).isEqualTo("bucket-cluster-" + i);
+        }
+        verify(sdkClient, times(REQUESTS)).describeClusters(any(DescribeClustersRequest.class));
+        verify(sdkClient, times(REQUESTS)).describeLoggingStatus(any(DescribeLoggingStatusRequest.class));
+        verify(sdkClient, times(REQUESTS)).getResourcePolicy(any(GetResourcePolicyRequest.class));
+    }
+}
@@ -26,15 +26,23 @@ import software.amazon.awssdk.services.redshift.model.EnableLoggingRequest;
 import software.amazon.awssdk.services.redshift.model.EnableLoggingResponse;
 import software.amazon.awssdk.services.redshift.model.GetResourcePolicyRequest;
 import software.amazon.awssdk.services.redshift.model.GetResourcePolicyResponse;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterIamRolesRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterIamRolesResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterRequest;
+import software.amazon.awssdk.services.redshift.model.RebootClusterRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterResponse;
+import software.amazon.awssdk.services.redshift.model.PauseClusterRequest;
+import software.amazon.awssdk.services.redshift.model.PauseClusterResponse;
 import software.amazon.awssdk.services.redshift.model.PutResourcePolicyRequest;
 import software.amazon.awssdk.services.redshift.model.PutResourcePolicyResponse;
 import software.amazon.awssdk.services.redshift.model.ResizeClusterRequest;
 import software.amazon.awssdk.services.redshift.model.ResizeClusterResponse;
 import software.amazon.awssdk.services.redshift.model.ResourcePolicy;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterRequest;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterResponse;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -52,8 +60,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -112,7 +122,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
         when(proxyClient.client().describeLoggingStatus(any(DescribeLoggingStatusRequest.class))).thenReturn(describeLoggingStatusFalseResponseSdk());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -169,6 +178,141 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void testUnchangedNamespaceResourcePolicy() {
+        // same policy as NAMESPACE_POLICY with reordered keys and a single element Action array
+        final String EQUIVALENT_NAMESPACE_RESOURCE_POLICY = "{\"Statement\":{\"Action\":[\"test:test\"],\"Resource\":\"*\",\"Effect\":\"Allow\"},\"Version\":\"2012-10-17\"}";
+        ResourceModel previousModel = createClusterResponseModel();
+        previousModel.setNamespaceResourcePolicy(Translator.convertStringToJson(NAMESPACE_POLICY, logger));
+
+        ResourceModel updateModel = createClusterResponseModel();
+        updateModel.setNamespaceResourcePolicy(Translator.convertStringToJson(EQUIVALENT_NAMESPACE_RESOURCE_POLICY, logger));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .awsPartition(AWS_PARTITION)
+                .region(AWS_REGION)
+                .build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenReturn(describeClustersResponseSdk());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getNamespaceResourcePolicy()).isEqualTo(updateModel.getNamespaceResourcePolicy());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), never()).putResourcePolicy(any(PutResourcePolicyRequest.class));
+    }
+
+    @Test
+    public void testNoOpUpdate() {
+        final String otherIamRole = "arn:aws:iam::1111:role/cfn_migration_test_IAM_role_other";
+        Tag tag = Tag.builder()
+                .key("foo")
+                .value("bar")
+                .build();
+
+        ResourceModel previousModel = BASIC_MODEL.toBuilder()
+                .iamRoles(Arrays.asList(IAM_ROLE_ARN, otherIamRole))
+                .tags(Arrays.asList(tag))
+                .build();
+
+        // same model with the unordered IamRoles list reordered
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .iamRoles(Arrays.asList(otherIamRole, IAM_ROLE_ARN))
+                .tags(Arrays.asList(tag))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getClusterIdentifier()).isEqualTo(updateModel.getClusterIdentifier());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), times(1)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+
+    @Test
+    public void testPauseCluster_ResourceActionOnly() {
+        ResourceModel previousModel = BASIC_MODEL.toBuilder().build();
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .resourceAction("pause-cluster")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(proxyClient.client().pauseCluster(any(PauseClusterRequest.class)))
+                .thenReturn(PauseClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER.toBuilder().clusterStatus("paused").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getClusterIdentifier()).isEqualTo(updateModel.getClusterIdentifier());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client()).pauseCluster(any(PauseClusterRequest.class));
+        verify(proxyClient.client(), times(1)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void testResumeCluster_ResourceActionOnly() {
+        ResourceModel previousModel = BASIC_MODEL.toBuilder()
+                .resourceAction("pause-cluster")
+                .build();
+        ResourceModel updateModel = BASIC_MODEL.toBuilder()
+                .resourceAction("resume-cluster")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = BASIC_RESOURCE_HANDLER_REQUEST.toBuilder()
+                .desiredResourceState(updateModel)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(proxyClient.client().resumeCluster(any(ResumeClusterRequest.class)))
+                .thenReturn(ResumeClusterResponse.builder().build());
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getClusterIdentifier()).isEqualTo(updateModel.getClusterIdentifier());
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client()).resumeCluster(any(ResumeClusterRequest.class));
+        verify(proxyClient.client(), times(1)).describeClusters(any(DescribeClustersRequest.class));
+    }
 
     @Test
     public void testRemoveTags_RemoveIamRole_DisableLogging_ModifyNumOfNodes() {
@@ -277,7 +421,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ResizeClusterResponse.builder()
                         .cluster(modifiedCluster_tagRemoved_iamRoleRemoved_loggingDisabled_ModifyNumberOfNodes)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -300,8 +443,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         assertThat(response.getResourceModel().getTags()).isEqualTo(request.getDesiredResourceState().getTags());
         assertThat(response.getResourceModel().getIamRoles()).isEqualTo(request.getDesiredResourceState().getIamRoles());
-        assertThat(response.getResourceModel().getLoggingProperties().getBucketName()).isNull();
-        assertThat(response.getResourceModel().getLoggingProperties().getS3KeyPrefix()).isNull();
+        assertThat(response.getResourceModel().getLoggingProperties()).isNull();
         assertThat(response.getResourceModel().getNumberOfNodes()).isEqualTo(previousModel.getNumberOfNodes()*2);
 
         assertThat(response.getResourceModels()).isNull();
@@ -407,7 +549,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ResizeClusterResponse.builder()
                         .cluster(modifiedCluster_tagAdded_iamRoleAdded_loggingEnabled_NodeTypeModify)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -469,7 +610,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -550,7 +690,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -631,7 +770,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -687,7 +825,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -742,7 +879,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -854,7 +990,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterResponse.builder()
                         .cluster(modifiedCluster)
                         .build());
-        when(proxyClient.client().getResourcePolicy(any(GetResourcePolicyRequest.class))).thenReturn(getEmptyResourcePolicyResponseSdk());
 
         ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -869,4 +1004,58 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).modifyCluster(any(ModifyClusterRequest.class));
     }
 
+    @Test
+    public void testIsRetryableClusterStateError() {
+        final ResourceModel model = BASIC_MODEL.toBuilder().build();
+        final CallbackContext context = new CallbackContext();
+        final Exception clusterBusy = new CfnGeneralServiceException(InvalidClusterStateException.builder().build());
+        final ModifyClusterRequest modifyRequest = ModifyClusterRequest.builder().clusterIdentifier(CLUSTER_IDENTIFIER).build();
+        final RebootClusterRequest rebootRequest = RebootClusterRequest.builder().clusterIdentifier(CLUSTER_IDENTIFIER).build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER.toBuilder().clusterStatus("modifying").build())
+                        .build())
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER.toBuilder().clusterStatus("paused").build())
+                        .build())
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER.toBuilder().clusterStatus("modifying").build())
+                        .build());
+
+        // another operation holds the cluster, wait for it
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, clusterBusy, proxyClient, model, context, logger)).isTrue();
+        assertThat(context.getTransientStateWaitStart()).isPositive();
+        // paused never settles on its own
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, clusterBusy, proxyClient, model, context, logger)).isFalse();
+        // other errors are not retried
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, new CfnInvalidRequestException("invalid"), proxyClient, model, context, logger)).isFalse();
+
+        // the budget covers one stalled call
+        context.setTransientStateWaitStart(System.currentTimeMillis() - Duration.ofMinutes(31L).toMillis());
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, clusterBusy, proxyClient, model, context, logger)).isFalse();
+        // a later call that stalls gets a budget of its own
+        assertThat(handler.isRetryableClusterStateError(rebootRequest, clusterBusy, proxyClient, model, context, logger)).isTrue();
+        verify(proxyClient.client(), times(3)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
+    @Test
+    public void testIsRetryableClusterStateErrorOnAvailableClusterRetriesOnce() {
+        final ResourceModel model = BASIC_MODEL.toBuilder().build();
+        final CallbackContext context = new CallbackContext();
+        final Exception clusterBusy = new CfnGeneralServiceException(InvalidClusterStateException.builder().build());
+        final ModifyClusterRequest modifyRequest = ModifyClusterRequest.builder().clusterIdentifier(CLUSTER_IDENTIFIER).build();
+
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(BASIC_CLUSTER.toBuilder().clusterStatus("available").build())
+                        .build());
+
+        // the conflict may have cleared before the describe, one more attempt
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, clusterBusy, proxyClient, model, context, logger)).isTrue();
+        // still rejected on an available cluster, that is a real error
+        assertThat(handler.isRetryableClusterStateError(modifyRequest, clusterBusy, proxyClient, model, context, logger)).isFalse();
+        verify(proxyClient.client(), times(2)).describeClusters(any(DescribeClustersRequest.class));
+    }
+
 }
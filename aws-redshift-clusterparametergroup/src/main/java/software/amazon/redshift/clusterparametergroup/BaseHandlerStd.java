@@ -1,18 +1,47 @@
 package software.amazon.redshift.clusterparametergroup;
 
 import com.amazonaws.util.StringUtils;
+import org.apache.commons.collections4.CollectionUtils;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterParameterGroupStateException;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.paginators.DescribeDefaultClusterParametersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     protected static final String CALL_GRAPH_TYPE_NAME = StringUtils.replace(ResourceModel.TYPE_NAME, "::", "-");
 
+    private final DefaultParameterCatalog defaultParameterCatalog;
+
+    protected BaseHandlerStd() {
+        this(DefaultParameterCatalog.shared());
+    }
+
+    protected BaseHandlerStd(final DefaultParameterCatalog defaultParameterCatalog) {
+        this.defaultParameterCatalog = defaultParameterCatalog;
+    }
+
+    protected DefaultParameterCatalog getDefaultParameterCatalog() {
+        return defaultParameterCatalog;
+    }
+
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -34,4 +63,163 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger);
+
+    /*
+    rejects parameters the family's engine defaults already tell us the service would refuse, and a
+    wlm_json_configuration that doesn't hold up locally, so the request fails before any tag or parameter
+    call is made. Parameters missing from the catalog and a catalog that can't be read are left to the service.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> validateParameters(final ProxyClient<RedshiftClient> proxyClient,
+                                                                               final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                               final Logger logger) {
+        final ResourceModel model = progress.getResourceModel();
+        if (CollectionUtils.isEmpty(model.getParameters())) {
+            return progress;
+        }
+
+        Map<String, DefaultParameter> defaultParameters = Collections.emptyMap();
+        try {
+            if (!StringUtils.isNullOrEmpty(model.getParameterGroupFamily())) {
+                defaultParameters = getDefaultParameters(model.getParameterGroupFamily(), proxyClient, logger);
+            }
+        } catch (SdkException e) {
+            logger.log(String.format("Skipping local validation, default parameters of family %s are not available: %s",
+                    model.getParameterGroupFamily(), e.getMessage()));
+        }
+
+        final Map<String, DefaultParameter> catalog = defaultParameters;
+        final List<String> violations = model.getParameters()
+                .stream()
+                .flatMap(parameter -> {
+                    final String name = StringUtils.lowerCase(parameter.getParameterName());
+                    final DefaultParameter defaultParameter = catalog.get(name);
+                    final String violation = defaultParameter == null ? null : defaultParameter.validate(parameter.getParameterValue());
+                    if (violation != null) {
+                        return Stream.of(violation);
+                    }
+                    return ParameterDiff.WLM_JSON_CONFIGURATION.equals(name) && parameter.getParameterValue() != null
+                            ? WlmConfiguration.parse(parameter.getParameterValue()).getViolations().stream()
+                            : Stream.empty();
+                })
+                .collect(Collectors.toList());
+
+        if (!violations.isEmpty()) {
+            logger.log(String.format("%s has invalid parameters: %s", ResourceModel.TYPE_NAME, violations));
+            return ProgressEvent.failed(model, progress.getCallbackContext(), HandlerErrorCode.InvalidRequest, String.join(" ", violations));
+        }
+        return progress;
+    }
+
+    /*
+    classifies the parameters an update sets or resets by their apply type. Dynamic parameters take effect
+    right away, a reboot of the attached clusters is only required when a static parameter changed.
+    Parameters the catalog doesn't know, or a catalog that can't be read, are treated as static.
+     */
+    protected boolean isRebootRequired(final String parameterGroupFamily,
+                                       final List<Parameter> changedParameters,
+                                       final ProxyClient<RedshiftClient> proxyClient,
+                                       final Logger logger) {
+        if (CollectionUtils.isEmpty(changedParameters)) {
+            return false;
+        }
+
+        Map<String, DefaultParameter> defaultParameters = Collections.emptyMap();
+        try {
+            if (!StringUtils.isNullOrEmpty(parameterGroupFamily)) {
+                defaultParameters = getDefaultParameters(parameterGroupFamily, proxyClient, logger);
+            }
+        } catch (SdkException e) {
+            logger.log(String.format("Apply types of family %s are not available, assuming static parameters: %s",
+                    parameterGroupFamily, e.getMessage()));
+        }
+
+        final Map<String, DefaultParameter> applyTypes = defaultParameters;
+        final Map<Boolean, List<String>> parametersByStaticApplyType = changedParameters
+                .stream()
+                .map(parameter -> StringUtils.lowerCase(parameter.getParameterName()))
+                .collect(Collectors.partitioningBy(name -> !applyTypes.containsKey(name) || applyTypes.get(name).isStatic()));
+
+        logger.log(String.format("%s static parameters changed: %s, dynamic parameters changed: %s",
+                ResourceModel.TYPE_NAME, parametersByStaticApplyType.get(true), parametersByStaticApplyType.get(false)));
+        return !parametersByStaticApplyType.get(true).isEmpty();
+    }
+
+    private Map<String, DefaultParameter> getDefaultParameters(final String parameterGroupFamily,
+                                                               final ProxyClient<RedshiftClient> proxyClient,
+                                                               final Logger logger) {
+        return defaultParameterCatalog.get(parameterGroupFamily, family -> describeDefaultClusterParameters(family, proxyClient), logger);
+    }
+
+    private List<software.amazon.awssdk.services.redshift.model.Parameter> describeDefaultClusterParameters(final String family,
+                                                                                                           final ProxyClient<RedshiftClient> proxyClient) {
+        final DescribeDefaultClusterParametersIterable awsResponses = proxyClient.injectCredentialsAndInvokeIterableV2(
+                Translator.translateToDescribeDefaultParametersRequest(family),
+                proxyClient.client()::describeDefaultClusterParametersPaginator);
+        return awsResponses.stream()
+                .flatMap(awsResponse -> awsResponse.defaultClusterParameters().parameters().stream())
+                .collect(Collectors.toList());
+    }
+
+    /*
+    issues the ModifyClusterParameterGroup chunks back to back, the number of applied chunks is checkpointed
+    in the callback context so a re-invocation resumes from the next unapplied chunk
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> updateParameters(final AmazonWebServicesClientProxy proxy,
+                                                                             final ProxyClient<RedshiftClient> proxyClient,
+                                                                             final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                             final String operation,
+                                                                             final Logger logger) {
+        final List<ModifyClusterParameterGroupRequest> modifyRequests = Translator.translateToUpdateRequests(progress.getResourceModel());
+        ProgressEvent<ResourceModel, CallbackContext> chunkProgress = progress;
+
+        for (int chunk = progress.getCallbackContext().getModifyChunksApplied(); chunk < modifyRequests.size(); chunk++) {
+            final ModifyClusterParameterGroupRequest modifyRequest = modifyRequests.get(chunk);
+            chunkProgress = proxy.initiate(String.format("%s::%s::UpdateParameters::%d", CALL_GRAPH_TYPE_NAME, operation, chunk), proxyClient, chunkProgress.getResourceModel(), chunkProgress.getCallbackContext())
+                    .translateToServiceRequest(model -> modifyRequest)
+                    .makeServiceCall((_awsRequest, _proxyClient) -> modifyClusterParameterGroup(_awsRequest, _proxyClient, logger))
+                    .handleError(this::modifyClusterParameterGroupErrorHandler)
+                    .progress();
+
+            if (!chunkProgress.isInProgress()) {
+                return chunkProgress;
+            }
+            chunkProgress.getCallbackContext().setModifyChunksApplied(chunk + 1);
+            logger.log(String.format("%s's update chunk %d of %d applied.", ResourceModel.TYPE_NAME, chunk + 1, modifyRequests.size()));
+        }
+        return chunkProgress;
+    }
+
+    private ModifyClusterParameterGroupResponse modifyClusterParameterGroup(final ModifyClusterParameterGroupRequest awsRequest,
+                                                                            final ProxyClient<RedshiftClient> proxyClient,
+                                                                            final Logger logger) {
+        return Optional.of(awsRequest)
+                .filter(r -> !CollectionUtils.isEmpty(r.parameters()))
+                .map(r -> {
+                    ModifyClusterParameterGroupResponse awsResponse;
+                    awsResponse = proxyClient.injectCredentialsAndInvokeV2(r, proxyClient.client()::modifyClusterParameterGroup);
+
+                    logger.log(String.format("%s's Parameters has successfully been updated.", ResourceModel.TYPE_NAME));
+                    return awsResponse;
+                })
+                .orElseGet(() -> {
+                    logger.log(String.format("%s's Parameters has nothing to be updated.", ResourceModel.TYPE_NAME));
+                    return ModifyClusterParameterGroupResponse.builder().build();
+                });
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> modifyClusterParameterGroupErrorHandler(final ModifyClusterParameterGroupRequest awsRequest,
+                                                                                                  final Exception exception,
+                                                                                                  final ProxyClient<RedshiftClient> client,
+                                                                                                  final ResourceModel model,
+                                                                                                  final CallbackContext context) {
+        if (exception instanceof ClusterParameterGroupNotFoundException) {
+            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
+
+        } else if (exception instanceof InvalidClusterParameterGroupStateException) {
+            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ResourceConflict);
+
+        } else {
+            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
+        }
+    }
 }
@@ -2,6 +2,8 @@ package software.amazon.redshift.clusterparametergroup;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.List;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
@@ -10,4 +12,13 @@ public class CallbackContext extends StdCallbackContext {
     private boolean parametersApplied;
     private String marker;
     private boolean clusterStabilized;
+    // number of ResetClusterParameterGroup / ModifyClusterParameterGroup chunks already applied
+    private int resetChunksApplied;
+    private int modifyChunksApplied;
+    // whether the applied changes include static parameters, which only take effect after a cluster reboot
+    private boolean rebootRequired;
+    // attached clusters still waiting for their reboot, null until the attached clusters have been discovered
+    private List<String> clustersPendingReboot;
+    // attached clusters of the current reboot wave
+    private List<String> clustersRebooting;
 }
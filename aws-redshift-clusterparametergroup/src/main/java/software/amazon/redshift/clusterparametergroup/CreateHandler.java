@@ -28,7 +28,14 @@ import com.google.common.collect.Maps;
 
 public class CreateHandler extends BaseHandlerStd {
     private static final int MAX_CLUSTER_PARAMETER_GROUP_NAME_LENGTH = 255;
-    private Logger logger;
+
+    public CreateHandler() {
+        super();
+    }
+
+    public CreateHandler(final DefaultParameterCatalog defaultParameterCatalog) {
+        super(defaultParameterCatalog);
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -37,8 +44,6 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel resourceModel = request.getDesiredResourceState();
 
         if (StringUtils.isBlank(resourceModel.getParameterGroupName())) {
@@ -58,24 +63,39 @@ public class CreateHandler extends BaseHandlerStd {
         mergedTags.putAll(Optional.ofNullable(convertedTags).orElse(Collections.emptyMap()));
 
         return ProgressEvent.progress(resourceModel, callbackContext)
+                .then(progress -> validateParameters(proxyClient, progress, logger))
+
                 .then(progress -> proxy.initiate(String.format("%s::Create", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, mergedTags))
-                        .makeServiceCall(this::createClusterParameterGroup)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> createClusterParameterGroup(_awsRequest, _proxyClient, logger))
                         .handleError(this::createClusterParameterGroupErrorHandler)
                         .progress()
                 )
 
-                .then(progress -> new UpdateHandler().handleRequest(proxy,
+                /*
+                a new group has no tags to diff and no user parameters to reset,
+                so the desired parameters are applied as they are
+                 */
+                .then(progress -> updateParameters(proxy, proxyClient,
+                        ProgressEvent.progress(progress.getResourceModel().toBuilder()
+                                .parameters(ParameterDiff.between(progress.getResourceModel().getParameters(), Collections.emptyList())
+                                        .toUpdatableParameters(UpdateHandler.NEED_TO_BE_RESET))
+                                .build(), progress.getCallbackContext()),
+                        "Create", logger))
+
+                // the read reports canonical parameter values and drops write-only properties such as RebootAttachedClusters
+                .then(progress -> new ReadHandler().handleRequest(proxy,
                         request.toBuilder()
                                 .desiredResourceState(progress.getResourceModel())
                                 .build(),
-                        callbackContext,
+                        progress.getCallbackContext(),
                         proxyClient,
                         logger));
     }
 
     private CreateClusterParameterGroupResponse createClusterParameterGroup(final CreateClusterParameterGroupRequest awsRequest,
-                                                                            final ProxyClient<RedshiftClient> proxyClient) {
+                                                                            final ProxyClient<RedshiftClient> proxyClient,
+                                                                            final Logger logger) {
         CreateClusterParameterGroupResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createClusterParameterGroup);
 
@@ -0,0 +1,108 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Engine default of a single parameter in a parameter group family, as returned by DescribeDefaultClusterParameters.
+ */
+@lombok.Data
+@lombok.Builder
+@lombok.NoArgsConstructor
+@lombok.AllArgsConstructor
+public class DefaultParameter {
+    static final String APPLY_TYPE_STATIC = "static";
+    static final String APPLY_TYPE_DYNAMIC = "dynamic";
+    private static final String DATA_TYPE_BOOLEAN = "boolean";
+    private static final String DATA_TYPE_INTEGER = "integer";
+
+    private String parameterName;
+    private String defaultValue;
+    private String dataType;
+    private String allowedValues;
+    private String applyType;
+    private Boolean modifiable;
+
+    static DefaultParameter fromSdkParameter(final software.amazon.awssdk.services.redshift.model.Parameter parameter) {
+        return DefaultParameter.builder()
+                .parameterName(StringUtils.lowerCase(parameter.parameterName()))
+                .defaultValue(parameter.parameterValue())
+                .dataType(parameter.dataType())
+                .allowedValues(parameter.allowedValues())
+                .applyType(parameter.applyTypeAsString())
+                .modifiable(parameter.isModifiable())
+                .build();
+    }
+
+    boolean isStatic() {
+        return APPLY_TYPE_STATIC.equalsIgnoreCase(applyType);
+    }
+
+    /**
+     * Only checks what can be decided locally: modifiability, boolean values and integer ranges.
+     * Anything else, e.g. string formats, is left to the service.
+     *
+     * @param value the desired parameter value
+     * @return why the value is rejected, null when it's accepted
+     */
+    String validate(final String value) {
+        if (Boolean.FALSE.equals(modifiable)) {
+            return String.format("Parameter %s is not modifiable.", parameterName);
+        }
+        if (value == null) {
+            return null;
+        }
+        if (DATA_TYPE_BOOLEAN.equalsIgnoreCase(dataType)) {
+            final List<String> allowed = StringUtils.isBlank(allowedValues)
+                    ? Arrays.asList("true", "false")
+                    : splitAllowedValues();
+            return allowed.stream().anyMatch(value.trim()::equalsIgnoreCase)
+                    ? null
+                    : String.format("Parameter %s must be one of [%s], got %s.", parameterName, String.join(", ", allowed), value);
+        }
+        if (DATA_TYPE_INTEGER.equalsIgnoreCase(dataType)) {
+            final long number;
+            try {
+                number = Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                return String.format("Parameter %s must be an integer, got %s.", parameterName, value);
+            }
+            return isInAllowedRange(number)
+                    ? null
+                    : String.format("Parameter %s must be in [%s], got %s.", parameterName, allowedValues, value);
+        }
+        return null;
+    }
+
+    /*
+    integer allowed values come as a comma separated list of single values and ranges, e.g. "0,100-2147483647".
+    if any token can't be parsed the range is not checked locally.
+     */
+    private boolean isInAllowedRange(final long number) {
+        if (StringUtils.isBlank(allowedValues)) {
+            return true;
+        }
+        boolean inRange = false;
+        for (String token : splitAllowedValues()) {
+            final int separator = token.indexOf('-', 1);
+            try {
+                final long lower = Long.parseLong(separator < 0 ? token : token.substring(0, separator).trim());
+                final long upper = separator < 0 ? lower : Long.parseLong(token.substring(separator + 1).trim());
+                inRange |= number >= lower && number <= upper;
+            } catch (NumberFormatException e) {
+                return true;
+            }
+        }
+        return inRange;
+    }
+
+    private List<String> splitAllowedValues() {
+        return Arrays.stream(allowedValues.split(","))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .collect(Collectors.toList());
+    }
+}
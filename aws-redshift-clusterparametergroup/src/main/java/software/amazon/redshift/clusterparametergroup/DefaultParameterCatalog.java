@@ -0,0 +1,128 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per-family catalog of engine default parameters. Families are loaded once per warm container and,
+ * when a persistence directory is configured, written there so a fresh container in the same sandbox
+ * can skip the DescribeDefaultClusterParameters round trip.
+ */
+public class DefaultParameterCatalog {
+    private static final String CACHE_FILE_FORMAT = "redshift-default-parameters-%s.json";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<DefaultParameter>> DEFAULT_PARAMETERS_TYPE = new TypeReference<List<DefaultParameter>>() {};
+    private static final DefaultParameterCatalog SHARED = new DefaultParameterCatalog(Paths.get(System.getProperty("java.io.tmpdir")));
+
+    private final Map<String, Map<String, DefaultParameter>> families = new ConcurrentHashMap<>();
+    private final Path persistenceDirectory;
+
+    /**
+     * @param persistenceDirectory where loaded families are persisted, null to keep them in memory only
+     */
+    public DefaultParameterCatalog(final Path persistenceDirectory) {
+        this.persistenceDirectory = persistenceDirectory;
+    }
+
+    public static DefaultParameterCatalog shared() {
+        return SHARED;
+    }
+
+    /**
+     * @param family parameter group family, e.g. redshift-1.0
+     * @param loader reads the engine defaults of a family from the service
+     * @return the family's default parameters keyed by lower cased parameter name
+     */
+    Map<String, DefaultParameter> get(final String family,
+                                      final Function<String, List<software.amazon.awssdk.services.redshift.model.Parameter>> loader,
+                                      final Logger logger) {
+        final String key = StringUtils.lowerCase(family);
+        final Map<String, DefaultParameter> cached = families.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Optional<List<DefaultParameter>> persisted = readPersisted(key, logger);
+        if (persisted.isPresent()) {
+            logger.log(String.format("Default parameters of family %s read from %s.", key, persistenceDirectory));
+            return putIfNotEmpty(key, toNameKeyedMap(persisted.get()));
+        }
+
+        // loaded outside the map so a slow describe never blocks lookups of other families
+        final Map<String, DefaultParameter> defaultParameters = new LinkedHashMap<>();
+        loader.apply(family).forEach(parameter -> {
+            final DefaultParameter defaultParameter = DefaultParameter.fromSdkParameter(parameter);
+            defaultParameters.put(defaultParameter.getParameterName(), defaultParameter);
+        });
+        if (!defaultParameters.isEmpty()) {
+            persist(key, defaultParameters, logger);
+        }
+        return putIfNotEmpty(key, Collections.unmodifiableMap(defaultParameters));
+    }
+
+    // an empty family is not cached, the next request asks the service again
+    private Map<String, DefaultParameter> putIfNotEmpty(final String family, final Map<String, DefaultParameter> defaultParameters) {
+        if (defaultParameters.isEmpty()) {
+            return defaultParameters;
+        }
+        final Map<String, DefaultParameter> existing = families.putIfAbsent(family, defaultParameters);
+        return existing != null ? existing : defaultParameters;
+    }
+
+    private Optional<List<DefaultParameter>> readPersisted(final String family, final Logger logger) {
+        if (persistenceDirectory == null) {
+            return Optional.empty();
+        }
+        final Path cacheFile = cacheFile(family);
+        if (!Files.isReadable(cacheFile)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OBJECT_MAPPER.readValue(cacheFile.toFile(), DEFAULT_PARAMETERS_TYPE));
+        } catch (IOException e) {
+            // a corrupted cache file only costs a service call
+            logger.log(String.format("Ignoring unreadable default parameters cache %s: %s", cacheFile, e.getMessage()));
+            return Optional.empty();
+        }
+    }
+
+    private void persist(final String family, final Map<String, DefaultParameter> defaultParameters, final Logger logger) {
+        if (persistenceDirectory == null || !Files.isWritable(persistenceDirectory)) {
+            return;
+        }
+        final Path cacheFile = cacheFile(family);
+        try {
+            // write aside and move so concurrent readers never see a partial file
+            final Path tempFile = Files.createTempFile(persistenceDirectory, cacheFile.getFileName().toString(), ".tmp");
+            OBJECT_MAPPER.writeValue(tempFile.toFile(), defaultParameters.values());
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.log(String.format("Unable to persist default parameters to %s: %s", cacheFile, e.getMessage()));
+        }
+    }
+
+    private Path cacheFile(final String family) {
+        return persistenceDirectory.resolve(String.format(CACHE_FILE_FORMAT, family.replaceAll("[^a-z0-9.-]", "_")));
+    }
+
+    private static Map<String, DefaultParameter> toNameKeyedMap(final List<DefaultParameter> defaultParameters) {
+        final Map<String, DefaultParameter> nameKeyedMap = new LinkedHashMap<>();
+        defaultParameters.forEach(defaultParameter -> nameKeyedMap.put(defaultParameter.getParameterName(), defaultParameter));
+        return Collections.unmodifiableMap(nameKeyedMap);
+    }
+}
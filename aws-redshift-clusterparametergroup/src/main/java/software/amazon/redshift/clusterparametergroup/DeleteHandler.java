@@ -13,7 +13,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,13 +21,11 @@ public class DeleteHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
                         proxy.initiate(String.format("%s::Delete", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteClusterParameterGroup)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> deleteClusterParameterGroup(_awsRequest, _proxyClient, logger))
                                 .handleError(this::deleteClusterParameterGroupErrorHandler)
                                 .progress()
                 )
@@ -37,7 +34,8 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     private DeleteClusterParameterGroupResponse deleteClusterParameterGroup(final DeleteClusterParameterGroupRequest awsRequest,
-                                                                            final ProxyClient<RedshiftClient> proxyClient) {
+                                                                            final ProxyClient<RedshiftClient> proxyClient,
+                                                                            final Logger logger) {
         DeleteClusterParameterGroupResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::deleteClusterParameterGroup);
 
@@ -17,7 +17,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
-    private Logger logger;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,9 +25,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        this.logger = logger;
         DescribeClusterParameterGroupsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
-        DescribeClusterParameterGroupsResponse awsResponse = listClusterParameterGroups(awsRequest, proxy);
+        DescribeClusterParameterGroupsResponse awsResponse = listClusterParameterGroups(awsRequest, proxy, logger);
         List<ResourceModel> models = Translator.translateFromListRequest(awsResponse);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -39,7 +37,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     }
 
     private DescribeClusterParameterGroupsResponse listClusterParameterGroups(final DescribeClusterParameterGroupsRequest awsRequest,
-                                                                              final AmazonWebServicesClientProxy proxy) {
+                                                                              final AmazonWebServicesClientProxy proxy,
+                                                                              final Logger logger) {
         DescribeClusterParameterGroupsResponse awsResponse;
 
         try {
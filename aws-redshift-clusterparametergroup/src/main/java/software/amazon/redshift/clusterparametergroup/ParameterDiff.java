@@ -0,0 +1,131 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Partitions parameters into the ones to set, the ones to reset and the unchanged ones, in a single pass over
+ * name-keyed maps. Parameter names are compared case-insensitively; wlm_json_configuration values are compared
+ * as canonical JSON trees, so key order and whitespace differences are not treated as a change.
+ */
+final class ParameterDiff {
+    static final String WLM_JSON_CONFIGURATION = "wlm_json_configuration";
+
+    // canonical WLM forms are memoized per raw value; bounded so a long-running process can't grow it forever
+    private static final int MAX_CACHED_WLM_CONFIGURATIONS = 256;
+    private static final Map<String, String> CANONICAL_WLM_CACHE = new ConcurrentHashMap<>();
+    // marks values that are not valid JSON, ConcurrentHashMap can't hold null values
+    private static final String INVALID_JSON = "";
+
+    private final Map<String, String> parametersToSet;
+    private final Set<String> parametersToReset;
+    private final Set<String> unchangedParameters;
+
+    private ParameterDiff(final Map<String, String> parametersToSet,
+                          final Set<String> parametersToReset,
+                          final Set<String> unchangedParameters) {
+        this.parametersToSet = parametersToSet;
+        this.parametersToReset = parametersToReset;
+        this.unchangedParameters = unchangedParameters;
+    }
+
+    static ParameterDiff between(final List<Parameter> desiredParameters, final List<Parameter> previousParameters) {
+        final Map<String, String> desired = toNameKeyedMap(desiredParameters);
+        final Map<String, String> previous = toNameKeyedMap(previousParameters);
+
+        final Map<String, String> parametersToSet = new LinkedHashMap<>();
+        final Set<String> unchangedParameters = new LinkedHashSet<>();
+        desired.forEach((name, value) -> {
+            if (previous.containsKey(name) && isSameValue(name, value, previous.get(name))) {
+                unchangedParameters.add(name);
+            } else {
+                parametersToSet.put(name, value);
+            }
+        });
+
+        final Set<String> parametersToReset = new LinkedHashSet<>();
+        previous.keySet().stream()
+                .filter(name -> !desired.containsKey(name))
+                .forEach(parametersToReset::add);
+
+        return new ParameterDiff(parametersToSet, parametersToReset, unchangedParameters);
+    }
+
+    Map<String, String> getParametersToSet() {
+        return Collections.unmodifiableMap(parametersToSet);
+    }
+
+    Set<String> getParametersToReset() {
+        return Collections.unmodifiableSet(parametersToReset);
+    }
+
+    Set<String> getUnchangedParameters() {
+        return Collections.unmodifiableSet(unchangedParameters);
+    }
+
+    /**
+     * @param resetMarker the value reset parameters are flagged with
+     * @return parameters to set followed by parameters to reset, in the shape the UpdateHandler translates into requests
+     */
+    List<Parameter> toUpdatableParameters(final String resetMarker) {
+        final List<Parameter> updatableParameters = new ArrayList<>(parametersToSet.size() + parametersToReset.size());
+        parametersToSet.forEach((name, value) -> updatableParameters.add(Parameter.builder()
+                .parameterName(name)
+                .parameterValue(value)
+                .build()));
+        parametersToReset.forEach(name -> updatableParameters.add(Parameter.builder()
+                .parameterName(name)
+                .parameterValue(resetMarker)
+                .build()));
+        return updatableParameters;
+    }
+
+    /*
+    like before, we assume there's no duplicated parameters like [{key1: value1}, {key1: value2}],
+    if there are, the last one wins
+     */
+    private static Map<String, String> toNameKeyedMap(final List<Parameter> parameters) {
+        final Map<String, String> nameKeyedMap = new LinkedHashMap<>();
+        if (parameters != null) {
+            parameters.forEach(parameter -> nameKeyedMap.put(StringUtils.lowerCase(parameter.getParameterName()), parameter.getParameterValue()));
+        }
+        return nameKeyedMap;
+    }
+
+    private static boolean isSameValue(final String name, final String desiredValue, final String previousValue) {
+        if (Objects.equals(desiredValue, previousValue)) {
+            return true;
+        }
+        if (WLM_JSON_CONFIGURATION.equals(name) && desiredValue != null && previousValue != null) {
+            final String desiredWlm = canonicalWlm(desiredValue);
+            /*
+            invalid JSON is always treated as a change to be consistent with existing behavior,
+            validateParameters rejects it before any request is made
+             */
+            return !INVALID_JSON.equals(desiredWlm) && desiredWlm.equals(canonicalWlm(previousValue));
+        }
+        return false;
+    }
+
+    static String canonicalWlm(final String wlmJsonConfiguration) {
+        final String cached = CANONICAL_WLM_CACHE.get(wlmJsonConfiguration);
+        if (cached != null) {
+            return cached;
+        }
+        final String canonical = StringUtils.defaultString(WlmConfiguration.parse(wlmJsonConfiguration).toCanonicalJson(), INVALID_JSON);
+        if (CANONICAL_WLM_CACHE.size() >= MAX_CACHED_WLM_CONFIGURATIONS) {
+            CANONICAL_WLM_CACHE.clear();
+        }
+        CANONICAL_WLM_CACHE.put(wlmJsonConfiguration, canonical);
+        return canonical;
+    }
+}
@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGr
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClusterParametersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -15,8 +16,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.stream.Collectors;
+
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -25,12 +27,10 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> proxy.initiate(String.format("%s::Read::ReadInstance", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadRequest)
-                        .makeServiceCall(this::describeClusterParameterGroups)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> describeClusterParameterGroups(_awsRequest, _proxyClient, logger))
                         .handleError(this::describeClusterParameterGroupsErrorHandler)
                         .done(awsResponse -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                 .callbackContext(callbackContext)
@@ -42,13 +42,14 @@ public class ReadHandler extends BaseHandlerStd {
 
                 .then(progress -> proxy.initiate(String.format("%s::Read::ReadParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadParametersRequest)
-                        .makeServiceCall(this::describeClusterParameters)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> describeClusterParameters(_awsRequest, _proxyClient, logger))
                         .handleError(this::describeClusterParametersErrorHandler)
                         .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadParametersResponse(awsResponse, progress.getResourceModel()))));
     }
 
     private DescribeClusterParameterGroupsResponse describeClusterParameterGroups(final DescribeClusterParameterGroupsRequest awsRequest,
-                                                                                  final ProxyClient<RedshiftClient> proxyClient) {
+                                                                                  final ProxyClient<RedshiftClient> proxyClient,
+                                                                                  final Logger logger) {
         DescribeClusterParameterGroupsResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusterParameterGroups);
 
@@ -73,9 +74,14 @@ public class ReadHandler extends BaseHandlerStd {
     }
 
     private DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
-                                                                        final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeClusterParametersResponse awsResponse;
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusterParameters);
+                                                                        final ProxyClient<RedshiftClient> proxyClient,
+                                                                        final Logger logger) {
+        // follow markers so parameter groups with more than one page of user parameters are read completely
+        final DescribeClusterParametersIterable awsResponses =
+                proxyClient.injectCredentialsAndInvokeIterableV2(awsRequest, proxyClient.client()::describeClusterParametersPaginator);
+        final DescribeClusterParametersResponse awsResponse = DescribeClusterParametersResponse.builder()
+                .parameters(awsResponses.parameters().stream().collect(Collectors.toList()))
+                .build();
 
         logger.log(String.format("%s's Parameters has successfully been read.", ResourceModel.TYPE_NAME));
         return awsResponse;
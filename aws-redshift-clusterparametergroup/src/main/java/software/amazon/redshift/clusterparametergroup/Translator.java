@@ -1,7 +1,6 @@
 package software.amazon.redshift.clusterparametergroup;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.common.collect.Lists;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.redshift.model.CreateClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
@@ -11,9 +10,12 @@ import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGr
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
+import software.amazon.awssdk.services.redshift.model.RebootClusterRequest;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.TaggedResource;
 
@@ -28,7 +30,9 @@ import java.util.stream.Collectors;
 import static software.amazon.redshift.clusterparametergroup.UpdateHandler.NEED_TO_BE_RESET;
 
 public class Translator {
-    private static final Gson GSON = new GsonBuilder().create();
+    static final String PARAMETER_SOURCE_USER = "user";
+    // ModifyClusterParameterGroup and ResetClusterParameterGroup accept at most 20 parameters per call
+    static final int MAX_PARAMETERS_PER_REQUEST = 20;
 
     /**
      * Request to create a resource
@@ -46,7 +50,7 @@ public class Translator {
     }
 
     /**
-     * Request to read Parameters for a ClusterParameterGroup
+     * Request to read the user modified Parameters for a ClusterParameterGroup, engine defaults are filtered out server-side
      *
      * @param model resource model
      * @return awsRequest the aws service request to describe resource's Parameters
@@ -54,6 +58,7 @@ public class Translator {
     static DescribeClusterParametersRequest translateToReadParametersRequest(final ResourceModel model) {
         return DescribeClusterParametersRequest.builder()
                 .parameterGroupName(model.getParameterGroupName())
+                .source(PARAMETER_SOURCE_USER)
                 .build();
     }
 
@@ -68,11 +73,23 @@ public class Translator {
         return model.toBuilder()
                 .parameters(translateToModelParameters(awsResponse.parameters()
                         .stream()
-                        .filter(parameter -> parameter.source().equalsIgnoreCase("user"))
+                        .filter(parameter -> PARAMETER_SOURCE_USER.equalsIgnoreCase(parameter.source()))
                         .collect(Collectors.toList())))
                 .build();
     }
 
+    /**
+     * Request to read the engine default Parameters of a ClusterParameterGroup family
+     *
+     * @param family parameter group family
+     * @return awsRequest the aws service request to describe the family's default Parameters
+     */
+    static DescribeDefaultClusterParametersRequest translateToDescribeDefaultParametersRequest(final String family) {
+        return DescribeDefaultClusterParametersRequest.builder()
+                .parameterGroupFamily(family)
+                .build();
+    }
+
     /**
      * Request to read a resource
      *
@@ -233,8 +250,63 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Requests to reset properties of a previously created resource, split into API-sized chunks
+     *
+     * @param model resource model
+     * @return awsRequests the aws service requests to reset a resource, in the order they should be issued
+     */
+    static List<ResetClusterParameterGroupRequest> translateToResetRequests(final ResourceModel model) {
+        final ResetClusterParameterGroupRequest resetRequest = translateToResetRequest(model);
+        return Lists.partition(resetRequest.parameters(), MAX_PARAMETERS_PER_REQUEST)
+                .stream()
+                .map(chunk -> resetRequest.toBuilder().parameters(chunk).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Requests to update properties of a previously created resource, split into API-sized chunks
+     *
+     * @param model resource model
+     * @return awsRequests the aws service requests to modify a resource, in the order they should be issued
+     */
+    static List<ModifyClusterParameterGroupRequest> translateToUpdateRequests(final ResourceModel model) {
+        final ModifyClusterParameterGroupRequest updateRequest = translateToUpdateRequest(model);
+        return Lists.partition(updateRequest.parameters(), MAX_PARAMETERS_PER_REQUEST)
+                .stream()
+                .map(chunk -> updateRequest.toBuilder().parameters(chunk).build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Request to describe clusters, every cluster of the account when no identifier is given
+     *
+     * @param clusterIdentifier cluster identifier, null for all clusters
+     * @return awsRequest the aws service request to describe clusters
+     */
+    static DescribeClustersRequest translateToDescribeClustersRequest(final String clusterIdentifier) {
+        return DescribeClustersRequest.builder()
+                .clusterIdentifier(clusterIdentifier)
+                .build();
+    }
+
+    /**
+     * Request to reboot a cluster that uses the parameter group
+     *
+     * @param clusterIdentifier cluster identifier
+     * @return awsRequest the aws service request to reboot a cluster
+     */
+    static RebootClusterRequest translateToRebootClusterRequest(final String clusterIdentifier) {
+        return RebootClusterRequest.builder()
+                .clusterIdentifier(clusterIdentifier)
+                .build();
+    }
+
     private static software.amazon.awssdk.services.redshift.model.Parameter translateToSdkParameter(Parameter parameter) {
-        return GSON.fromJson(GSON.toJson(parameter), software.amazon.awssdk.services.redshift.model.Parameter.class);
+        return software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                .parameterName(parameter.getParameterName())
+                .parameterValue(parameter.getParameterValue())
+                .build();
     }
 
     public static List<software.amazon.awssdk.services.redshift.model.Parameter> translateToSdkParameters(List<Parameter> parameters) {
@@ -247,7 +319,10 @@ public class Translator {
     }
 
     private static Parameter translateToModelParameter(software.amazon.awssdk.services.redshift.model.Parameter parameter) {
-        return GSON.fromJson(GSON.toJson(parameter), Parameter.class);
+        return Parameter.builder()
+                .parameterName(parameter.parameterName())
+                .parameterValue(parameter.parameterValue())
+                .build();
     }
 
     private static List<Parameter> translateToModelParameters(List<software.amazon.awssdk.services.redshift.model.Parameter> parameters) {
@@ -275,7 +350,10 @@ public class Translator {
     }
 
     private static software.amazon.awssdk.services.redshift.model.Tag translateToSdkTag(Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), software.amazon.awssdk.services.redshift.model.Tag.class);
+        return software.amazon.awssdk.services.redshift.model.Tag.builder()
+                .key(tag.getKey())
+                .value(tag.getValue())
+                .build();
     }
 
     public static List<software.amazon.awssdk.services.redshift.model.Tag> translateToSdkTags(List<Tag> tags) {
@@ -288,7 +366,10 @@ public class Translator {
     }
 
     private static Tag translateToModelTag(software.amazon.awssdk.services.redshift.model.Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), Tag.class);
+        return Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build();
     }
 
     private static List<Tag> translateToModelTags(List<software.amazon.awssdk.services.redshift.model.Tag> tags) {
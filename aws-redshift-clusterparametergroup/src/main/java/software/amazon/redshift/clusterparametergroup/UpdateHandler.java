@@ -1,25 +1,24 @@
 package software.amazon.redshift.clusterparametergroup;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupNotFoundException;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterParameterGroupStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
-import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
-import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.RebootClusterRequest;
+import software.amazon.awssdk.services.redshift.model.RebootClusterResponse;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupResponse;
 import software.amazon.awssdk.services.redshift.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClusterParametersIterable;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClustersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
@@ -28,20 +27,28 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
     public static final String NEED_TO_BE_RESET = "needToBeReset";
-    private static final String WLM_JSON_CONFIGURATION = "wlm_json_configuration";
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CLUSTER_STATUS_AVAILABLE = "available";
+    // attached clusters are rebooted a few at a time so the rest of the fleet keeps serving
+    private static final int MAX_CONCURRENT_REBOOTS = 5;
+    private static final int REBOOT_CALLBACK_DELAY_SECONDS = 60;
 
-    private Logger logger;
+    public UpdateHandler() {
+        super();
+    }
+
+    public UpdateHandler(final DefaultParameterCatalog defaultParameterCatalog) {
+        super(defaultParameterCatalog);
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -50,7 +57,6 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
         final String resourceName = String.format("arn:%s:redshift:%s:%s:parametergroup:%s", request.getAwsPartition(), request.getRegion(), request.getAwsAccountId(), desiredResourceState.getParameterGroupName());
         Map<String, String> allDesiredTags = new HashMap<>();
@@ -69,20 +75,12 @@ public class UpdateHandler extends BaseHandlerStd {
         List<Tag> currentTags = Translator.translateTagsMapToTagCollection(allPreviousTags);
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
-                .then(progress -> proxy.initiate(String.format("%s::Update::ReadTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
-                        .makeServiceCall(this::readTags)
-                        .handleError(this::operateTagsErrorHandler)
-                        .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .callbackContext(callbackContext)
-                                .callbackDelaySeconds(0)
-                                .resourceModel(Translator.translateFromReadTagsResponse(tagsResponse))
-                                .status(OperationStatus.IN_PROGRESS)
-                                .build()))
+                .then(progress -> validateParameters(proxyClient, progress, logger))
 
+                // the tag diff comes from the previous resource state and stack tags, no DescribeTags round trip is needed
                 .then(progress -> proxy.initiate(String.format("%s::Update::UpdateTags", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(model -> Translator.translateToUpdateTagsRequest(desiredTags, currentTags, resourceName))
-                        .makeServiceCall(this::updateTags)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> updateTags(_awsRequest, _proxyClient, logger))
                         .handleError(this::operateTagsErrorHandler)
                         .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                 .callbackContext(callbackContext)
@@ -93,26 +91,29 @@ public class UpdateHandler extends BaseHandlerStd {
 
                 .then(progress -> proxy.initiate(String.format("%s::Update::ReadParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadParametersRequest)
-                        .makeServiceCall(this::describeClusterParameters)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> describeClusterParameters(_awsRequest, _proxyClient, logger))
                         .handleError(this::describeClusterParametersErrorHandler)
-                        .done((readRequest, readResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                .callbackContext(context)
-                                .callbackDelaySeconds(0)
-                                .resourceModel(getUpdatableResourceModel(model, Translator.translateFromReadParametersResponse(readResponse, model)))
-                                .status(OperationStatus.IN_PROGRESS)
-                                .build()))
-
-                .then(progress -> proxy.initiate(String.format("%s::Update::ResetParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToResetRequest)
-                        .makeServiceCall(this::resetClusterParameterGroup)
-                        .handleError(this::resetClusterParameterGroupErrorHandler)
-                        .progress())
-
-                .then(progress -> proxy.initiate(String.format("%s::Update::UpdateParameters", CALL_GRAPH_TYPE_NAME), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                        .translateToServiceRequest(Translator::translateToUpdateRequest)
-                        .makeServiceCall(this::modifyClusterParameterGroup)
-                        .handleError(this::modifyClusterParameterGroupErrorHandler)
-                        .progress())
+                        .done((readRequest, readResponse, client, model, context) -> {
+                            final ResourceModel updatableModel = getUpdatableResourceModel(model, Translator.translateFromReadParametersResponse(readResponse, model), logger);
+                            context.setRebootRequired(isRebootRequired(updatableModel.getParameterGroupFamily(), updatableModel.getParameters(), client, logger));
+                            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                                    .callbackContext(context)
+                                    .callbackDelaySeconds(0)
+                                    .resourceModel(updatableModel)
+                                    .status(OperationStatus.IN_PROGRESS)
+                                    .build();
+                        }))
+
+                .then(progress -> resetParameters(proxy, proxyClient, progress, logger))
+
+                .then(progress -> updateParameters(proxy, proxyClient, progress, "Update", logger))
+
+                .then(progress -> {
+                    if (Boolean.TRUE.equals(desiredResourceState.getRebootAttachedClusters()) && progress.getCallbackContext().isRebootRequired()) {
+                        return rebootAttachedClusters(proxy, proxyClient, progress, desiredResourceState.getParameterGroupName(), logger);
+                    }
+                    return progress;
+                })
 
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
@@ -121,122 +122,191 @@ public class UpdateHandler extends BaseHandlerStd {
     compares the desired parameters and the previous parameters,
     calculates which parameters need to be reset (value set to NEED_TO_BE_RESET),
     and which parameter values need to be updated
+
+    previousParameters
+    [
+        { "auto_analyze": true },
+        { "date_style": "ISO, MDY" },
+        { "wlm_json_configuration": "[{key1: value1}]" }
+    ]
+
+    desiredParameters
+    [
+        { "statement_timeout": 1000 },
+        { "date_style": "ISO, MDY" }, // value stays the same, will be ignored,
+        { "wlm_json_configuration": "[{key1:        value1}]" } // canonical JSON equals the previous one, will be ignored
+    ]
+
+    updatableParameters
+    [
+        { "statement_timeout": 1000 }, // new or changed value, will be modified
+        { "auto_analyze": NEED_TO_BE_RESET }, // exists in previous not in desired, value will be set to NEED_TO_BE_RESET
+    ]
      */
-    private ResourceModel getUpdatableResourceModel(ResourceModel desiredModel, ResourceModel previousModel) {
+    private ResourceModel getUpdatableResourceModel(ResourceModel desiredModel, ResourceModel previousModel, final Logger logger) {
         logger.log("DesiredModel parameters: " + desiredModel.getParameters() + "\nPreviousModel parameters: " + previousModel.getParameters());
 
-        Function<List<Parameter>, List<Parameter>> lowerCaseParameterName = (raw) -> Optional.ofNullable(raw)
-                .map(parameters -> parameters
-                        .stream()
-                        .map(parameter -> Parameter.builder()
-                                .parameterName(StringUtils.lowerCase(parameter.getParameterName()))
-                                .parameterValue(parameter.getParameterValue())
-                                .build())
-                        .collect(Collectors.toList()))
-                .orElse(Collections.emptyList());
+        final ParameterDiff parameterDiff = ParameterDiff.between(desiredModel.getParameters(), previousModel.getParameters());
+        logger.log(String.format("%d parameters to update, %d parameters to reset, %d parameters unchanged.",
+                parameterDiff.getParametersToSet().size(),
+                parameterDiff.getParametersToReset().size(),
+                parameterDiff.getUnchangedParameters().size()));
 
-        List<Parameter> desiredParameters = lowerCaseParameterName.apply(desiredModel.getParameters());
-        List<Parameter> previousParameters = lowerCaseParameterName.apply(previousModel.getParameters());
+        return desiredModel.toBuilder()
+                .parameters(parameterDiff.toUpdatableParameters(NEED_TO_BE_RESET))
+                .build();
+    }
 
-        /*
-        like before, we assume there's no duplicated parameters like [{key1: value1}, {key1: value2}]
-         */
-        Function<List<Parameter>, Map<String, String>> paramsToMap = list -> list.stream()
-                .collect(Collectors.toMap(Parameter::getParameterName, Parameter::getParameterValue));
-        Map<String, String> desiredParamKeyValueMap = paramsToMap.apply(desiredParameters);
-        Map<String, String> previousParamKeyValueMap = paramsToMap.apply(previousParameters);
+    /*
+    issues the ResetClusterParameterGroup chunks back to back, the number of applied chunks is checkpointed
+    in the callback context so a re-invocation resumes from the next unapplied chunk
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> resetParameters(final AmazonWebServicesClientProxy proxy,
+                                                                          final ProxyClient<RedshiftClient> proxyClient,
+                                                                          final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                          final Logger logger) {
+        final List<ResetClusterParameterGroupRequest> resetRequests = Translator.translateToResetRequests(progress.getResourceModel());
+        ProgressEvent<ResourceModel, CallbackContext> chunkProgress = progress;
+
+        for (int chunk = progress.getCallbackContext().getResetChunksApplied(); chunk < resetRequests.size(); chunk++) {
+            final ResetClusterParameterGroupRequest resetRequest = resetRequests.get(chunk);
+            chunkProgress = proxy.initiate(String.format("%s::Update::ResetParameters::%d", CALL_GRAPH_TYPE_NAME, chunk), proxyClient, chunkProgress.getResourceModel(), chunkProgress.getCallbackContext())
+                    .translateToServiceRequest(model -> resetRequest)
+                    .makeServiceCall((_awsRequest, _proxyClient) -> resetClusterParameterGroup(_awsRequest, _proxyClient, logger))
+                    .handleError(this::resetClusterParameterGroupErrorHandler)
+                    .progress();
+
+            if (!chunkProgress.isInProgress()) {
+                return chunkProgress;
+            }
+            chunkProgress.getCallbackContext().setResetChunksApplied(chunk + 1);
+            logger.log(String.format("%s's reset chunk %d of %d applied.", ResourceModel.TYPE_NAME, chunk + 1, resetRequests.size()));
+        }
+        return chunkProgress;
+    }
 
-        /*
-        previousParameters
-        [
-            { "auto_analyze": true },
-            { "date_style": "ISO, MDY" },
-            { "wlm_json_configuration": "[{key1: value1}]" }
-        ]
-
-        desiredParameters
-        [
-            { "statement_timeout": 1000 },
-            { "date_style": "ISO, MDY" }, // value stays the same, will be ignored,
-            { "wlm_json_configuration": "[{key1:        value1}]" } // needs to `JSON` compare with previous wlm_json_configuration (see code)
-        ]
-
-        updatableParameters
-        [
-            { "auto_analyze": NEED_TO_BE_RESET }, // exists in previous not in desired, value will be set to NEED_TO_BE_RESET
-        ]
-         */
-        List<Parameter> updatableParameters = CollectionUtils.disjunction(desiredParameters, previousParameters)
+    /*
+    reboots the clusters using this parameter group in waves of MAX_CONCURRENT_REBOOTS. Each invocation
+    checks whether the current wave is available again, starts the next wave and calls back later,
+    the remaining and rebooting clusters are tracked in the callback context.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> rebootAttachedClusters(final AmazonWebServicesClientProxy proxy,
+                                                                                 final ProxyClient<RedshiftClient> proxyClient,
+                                                                                 final ProgressEvent<ResourceModel, CallbackContext> progress,
+                                                                                 final String parameterGroupName,
+                                                                                 final Logger logger) {
+        final CallbackContext context = progress.getCallbackContext();
+        if (context.getClustersPendingReboot() == null) {
+            context.setClustersPendingReboot(describeAttachedClusters(proxyClient, parameterGroupName, logger));
+            context.setClustersRebooting(new ArrayList<>());
+        }
+
+        final List<String> stillRebooting = context.getClustersRebooting()
                 .stream()
-                .filter(parameter -> {
-                    /*
-                    We only specially handle when wlm_json_configuration exists in both previous and desired parameters.
-
-                    When both previous and desired parameters contain wlm_json_configuration,
-                    we'll need to first sanitize both wlm_json_configurations (stringified JSON) then
-                    check if they're equal.
-
-                    For example, [{key:value}] is the same as [   {key: value}]
-
-                    When only previous parameters contains wlm_json_configuration,
-                    it means it needs to be reset.
-
-                    When only desired parameters contains wlm_json_configuration,
-                    we only need to apply the new one.
-                     */
-                    if (parameter.getParameterName().equals(WLM_JSON_CONFIGURATION)
-                            && desiredParamKeyValueMap.containsKey(WLM_JSON_CONFIGURATION)
-                            && previousParamKeyValueMap.containsKey(WLM_JSON_CONFIGURATION)
-                    ) {
-                        try {
-                            final String desiredWlm = getSanitizedString(desiredParamKeyValueMap.get(WLM_JSON_CONFIGURATION));
-                            final String previousWlm = getSanitizedString(previousParamKeyValueMap.get(WLM_JSON_CONFIGURATION));
-                            /*
-                            only when their sanitized values don't match, we update
-                             */
-                            return !desiredWlm.equals(previousWlm);
-                        } catch (JsonProcessingException e) {
-                            /*
-                            ignore this exception for now to be consistent with existing behavior,
-                            this invalid JSON will fail modifyParameterGroup API's JSON validation.
-
-                            When I get a chance to verify the behaviors we should for sure
-                            throw invalid JSON exception as soon as we can:
-
-                            throw new CfnInvalidRequestException(e);
-                             */
-                            return true; // true meaning we'll modify wlm_json_configuration using the new one
-                        }
-                    }
-                    // don't filter out any parameters by default
-                    return true;
-                })
-                .map(parameter -> Parameter.builder()
-                        .parameterName(parameter.getParameterName())
-                        .parameterValue(desiredParamKeyValueMap.getOrDefault(parameter.getParameterName(), NEED_TO_BE_RESET))
-                        .build())
-                /*
-                needs distinct because doing the map operation above can introduce the same Parameter,
-                this happens when the same parameter value changes,
-                in which this parameter key exists in both previous and desired parameters, but w/ diff values,
-                after map() we'll have 2 parameters, whose values are all set to desired parameter's value
-                 */
-                .distinct()
+                .filter(clusterIdentifier -> !isClusterAvailable(proxyClient, clusterIdentifier))
                 .collect(Collectors.toList());
+        context.setClustersRebooting(stillRebooting);
+        if (!stillRebooting.isEmpty()) {
+            logger.log(String.format("Waiting for clusters %s to be available after their reboot.", stillRebooting));
+            return ProgressEvent.defaultInProgressHandler(context, REBOOT_CALLBACK_DELAY_SECONDS, progress.getResourceModel());
+        }
 
-        return desiredModel.toBuilder()
-                .parameters(updatableParameters)
-                .build();
+        final List<String> pending = context.getClustersPendingReboot();
+        if (pending.isEmpty()) {
+            logger.log(String.format("All clusters using %s have been rebooted.", parameterGroupName));
+            return progress;
+        }
+
+        final List<String> wave = new ArrayList<>(pending.subList(0, Math.min(MAX_CONCURRENT_REBOOTS, pending.size())));
+        // only clusters whose RebootCluster succeeded are waited for, skipped ones (e.g. paused) never become available
+        final List<String> rebooted = new ArrayList<>();
+        ProgressEvent<ResourceModel, CallbackContext> rebootProgress = progress;
+        for (String clusterIdentifier : wave) {
+            rebootProgress = proxy.initiate(String.format("%s::Update::RebootCluster::%s", CALL_GRAPH_TYPE_NAME, clusterIdentifier), proxyClient, rebootProgress.getResourceModel(), context)
+                    .translateToServiceRequest(model -> Translator.translateToRebootClusterRequest(clusterIdentifier))
+                    .makeServiceCall((_awsRequest, _proxyClient) -> rebootCluster(_awsRequest, _proxyClient, logger))
+                    .handleError(this::rebootClusterErrorHandler)
+                    .done((_request, _response, _client, _model, _context) -> {
+                        rebooted.add(clusterIdentifier);
+                        return ProgressEvent.progress(_model, _context);
+                    });
+            if (!rebootProgress.isInProgress()) {
+                return rebootProgress;
+            }
+        }
+        context.setClustersPendingReboot(new ArrayList<>(pending.subList(wave.size(), pending.size())));
+        context.setClustersRebooting(rebooted);
+        logger.log(String.format("Rebooting clusters %s, %d clusters remaining.", rebooted, context.getClustersPendingReboot().size()));
+        return ProgressEvent.defaultInProgressHandler(context, REBOOT_CALLBACK_DELAY_SECONDS, progress.getResourceModel());
     }
 
-    private String getSanitizedString(final String str) throws JsonProcessingException {
-        return OBJECT_MAPPER.readValue(str, JsonNode.class).toString();
+    private List<String> describeAttachedClusters(final ProxyClient<RedshiftClient> proxyClient,
+                                                  final String parameterGroupName,
+                                                  final Logger logger) {
+        // DescribeClusters can't filter by parameter group, the clusters are matched on their ClusterParameterGroups
+        final DescribeClustersIterable awsResponses = proxyClient.injectCredentialsAndInvokeIterableV2(
+                Translator.translateToDescribeClustersRequest(null), proxyClient.client()::describeClustersPaginator);
+        final List<String> attachedClusters = awsResponses.clusters()
+                .stream()
+                .filter(cluster -> cluster.clusterParameterGroups()
+                        .stream()
+                        .anyMatch(parameterGroup -> StringUtils.equalsIgnoreCase(parameterGroup.parameterGroupName(), parameterGroupName)))
+                .map(Cluster::clusterIdentifier)
+                .collect(Collectors.toList());
+
+        logger.log(String.format("Clusters using %s: %s", parameterGroupName, attachedClusters));
+        return attachedClusters;
+    }
+
+    private boolean isClusterAvailable(final ProxyClient<RedshiftClient> proxyClient, final String clusterIdentifier) {
+        try {
+            return proxyClient.injectCredentialsAndInvokeV2(Translator.translateToDescribeClustersRequest(clusterIdentifier), proxyClient.client()::describeClusters)
+                    .clusters()
+                    .stream()
+                    .allMatch(cluster -> CLUSTER_STATUS_AVAILABLE.equalsIgnoreCase(cluster.clusterStatus()));
+        } catch (ClusterNotFoundException e) {
+            // a cluster deleted in the meantime has nothing left to wait for
+            return true;
+        }
+    }
+
+    private RebootClusterResponse rebootCluster(final RebootClusterRequest awsRequest,
+                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                final Logger logger) {
+        RebootClusterResponse awsResponse;
+        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::rebootCluster);
+
+        logger.log(String.format("Cluster %s reboot has been initiated.", awsRequest.clusterIdentifier()));
+        return awsResponse;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> rebootClusterErrorHandler(final RebootClusterRequest awsRequest,
+                                                                                    final Exception exception,
+                                                                                    final ProxyClient<RedshiftClient> client,
+                                                                                    final ResourceModel model,
+                                                                                    final CallbackContext context) {
+        /*
+        a cluster that was deleted or can't be rebooted right now (e.g. paused) doesn't block the others,
+        a paused cluster picks up the static parameters when it's resumed
+         */
+        if (exception instanceof ClusterNotFoundException ||
+                exception instanceof InvalidClusterStateException) {
+            return ProgressEvent.progress(model, context);
+
+        } else {
+            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
+        }
     }
 
     private DescribeClusterParametersResponse describeClusterParameters(final DescribeClusterParametersRequest awsRequest,
-                                                                        final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeClusterParametersResponse awsResponse;
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeClusterParameters);
+                                                                        final ProxyClient<RedshiftClient> proxyClient,
+                                                                        final Logger logger) {
+        // follow markers so parameter groups with more than one page of user parameters are read completely
+        final DescribeClusterParametersIterable awsResponses =
+                proxyClient.injectCredentialsAndInvokeIterableV2(awsRequest, proxyClient.client()::describeClusterParametersPaginator);
+        final DescribeClusterParametersResponse awsResponse = DescribeClusterParametersResponse.builder()
+                .parameters(awsResponses.parameters().stream().collect(Collectors.toList()))
+                .build();
 
         logger.log(String.format("%s's Parameters has successfully been read.", ResourceModel.TYPE_NAME));
 
@@ -262,17 +332,9 @@ public class UpdateHandler extends BaseHandlerStd {
         }
     }
 
-    private DescribeTagsResponse readTags(final DescribeTagsRequest awsRequest,
-                                          final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeTagsResponse awsResponse;
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeTags);
-
-        logger.log(String.format("%s's tags have successfully been read.", ResourceModel.TYPE_NAME));
-        return awsResponse;
-    }
-
     private CreateTagsResponse updateTags(final ModifyTagsRequest awsRequest,
-                                          final ProxyClient<RedshiftClient> proxyClient) {
+                                          final ProxyClient<RedshiftClient> proxyClient,
+                                          final Logger logger) {
         CreateTagsResponse awsResponse = null;
 
         if (awsRequest.getDeleteOldTagsRequest().tagKeys().isEmpty()) {
@@ -312,7 +374,8 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private ResetClusterParameterGroupResponse resetClusterParameterGroup(final ResetClusterParameterGroupRequest awsRequest,
-                                                                          final ProxyClient<RedshiftClient> proxyClient) {
+                                                                          final ProxyClient<RedshiftClient> proxyClient,
+                                                                          final Logger logger) {
         return Optional.of(awsRequest)
                 .filter(r -> !CollectionUtils.isEmpty(r.parameters()))
                 .map(r -> {
@@ -343,37 +406,4 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
         }
     }
-
-    private ModifyClusterParameterGroupResponse modifyClusterParameterGroup(final ModifyClusterParameterGroupRequest awsRequest,
-                                                                            final ProxyClient<RedshiftClient> proxyClient) {
-        return Optional.of(awsRequest)
-                .filter(r -> !CollectionUtils.isEmpty(r.parameters()))
-                .map(r -> {
-                    ModifyClusterParameterGroupResponse awsResponse;
-                    awsResponse = proxyClient.injectCredentialsAndInvokeV2(r, proxyClient.client()::modifyClusterParameterGroup);
-
-                    logger.log(String.format("%s's Parameters has successfully been updated.", ResourceModel.TYPE_NAME));
-                    return awsResponse;
-                })
-                .orElseGet(() -> {
-                    logger.log(String.format("%s's Parameters has nothing to be updated.", ResourceModel.TYPE_NAME));
-                    return ModifyClusterParameterGroupResponse.builder().build();
-                });
-    }
-
-    private ProgressEvent<ResourceModel, CallbackContext> modifyClusterParameterGroupErrorHandler(final ModifyClusterParameterGroupRequest awsRequest,
-                                                                                                  final Exception exception,
-                                                                                                  final ProxyClient<RedshiftClient> client,
-                                                                                                  final ResourceModel model,
-                                                                                                  final CallbackContext context) {
-        if (exception instanceof ClusterParameterGroupNotFoundException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
-
-        } else if (exception instanceof InvalidClusterParameterGroupStateException) {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.ResourceConflict);
-
-        } else {
-            return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.GeneralServiceException);
-        }
-    }
 }
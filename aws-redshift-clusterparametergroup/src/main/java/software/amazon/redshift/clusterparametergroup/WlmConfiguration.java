@@ -0,0 +1,214 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Local model of a wlm_json_configuration value. Parses the queue list, checks the structure the service
+ * would reject (manual vs. automatic WLM, concurrency, memory percent totals, query/user groups and
+ * query monitoring rules) and produces a canonical serialization for comparisons.
+ * Keys it doesn't know are kept and not validated, so newer WLM options still pass through.
+ */
+final class WlmConfiguration {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private static final String AUTO_WLM = "auto_wlm";
+    private static final String SHORT_QUERY_QUEUE = "short_query_queue";
+    private static final String QUERY_CONCURRENCY = "query_concurrency";
+    private static final String MEMORY_PERCENT_TO_USE = "memory_percent_to_use";
+    private static final String PRIORITY = "priority";
+    private static final String RULES = "rules";
+    private static final Set<String> GROUP_KEYS = ImmutableSet.of("query_group", "user_group", "user_role");
+    private static final Set<String> PRIORITIES = ImmutableSet.of("highest", "high", "normal", "low", "lowest", "critical");
+    private static final Set<String> RULE_ACTIONS = ImmutableSet.of("log", "hop", "abort", "change_query_priority");
+    private static final Set<String> RULE_OPERATORS = ImmutableSet.of("<", ">", "=");
+
+    private static final int MAX_QUEUES = 8;
+    private static final int MAX_TOTAL_CONCURRENCY = 50;
+    private static final int MAX_MEMORY_PERCENT = 100;
+    private static final int MAX_RULES = 25;
+
+    private final JsonNode queues;
+    private final List<String> violations;
+
+    private WlmConfiguration(final JsonNode queues, final List<String> violations) {
+        this.queues = queues;
+        this.violations = violations;
+    }
+
+    /**
+     * @param wlmJsonConfiguration the raw parameter value
+     * @return the parsed configuration, malformed JSON is reported as a violation
+     */
+    static WlmConfiguration parse(final String wlmJsonConfiguration) {
+        final JsonNode queues;
+        try {
+            queues = OBJECT_MAPPER.readTree(wlmJsonConfiguration);
+        } catch (JsonProcessingException e) {
+            return new WlmConfiguration(null, Collections.singletonList(
+                    String.format("%s is not valid JSON: %s", ParameterDiff.WLM_JSON_CONFIGURATION, e.getOriginalMessage())));
+        }
+        return new WlmConfiguration(queues, validate(queues));
+    }
+
+    boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    List<String> getViolations() {
+        return Collections.unmodifiableList(violations);
+    }
+
+    /**
+     * @return key-sorted JSON without insignificant whitespace, null when the value isn't JSON
+     */
+    String toCanonicalJson() {
+        if (queues == null || queues.isMissingNode()) {
+            return null;
+        }
+        try {
+            // a tree keeps its insertion order, go through a plain object so the mapper sorts the keys
+            return OBJECT_MAPPER.writeValueAsString(OBJECT_MAPPER.treeToValue(queues, Object.class));
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static List<String> validate(final JsonNode queues) {
+        final List<String> violations = new ArrayList<>();
+        if (!queues.isArray() || queues.size() == 0) {
+            violations.add(String.format("%s must be a non-empty JSON array of queues.", ParameterDiff.WLM_JSON_CONFIGURATION));
+            return violations;
+        }
+
+        int autoQueues = 0;
+        int workloadQueues = 0;
+        int totalConcurrency = 0;
+        int totalMemoryPercent = 0;
+        int totalRules = 0;
+        for (int index = 0; index < queues.size(); index++) {
+            final JsonNode queue = queues.get(index);
+            final String queueName = String.format("WLM queue %d", index + 1);
+            if (!queue.isObject()) {
+                violations.add(String.format("%s must be a JSON object.", queueName));
+                continue;
+            }
+            // {"short_query_queue": true} only switches short query acceleration on, it isn't a queue
+            if (queue.size() == 1 && queue.has(SHORT_QUERY_QUEUE)) {
+                if (!queue.get(SHORT_QUERY_QUEUE).isBoolean()) {
+                    violations.add(String.format("%s must be true or false.", SHORT_QUERY_QUEUE));
+                }
+                continue;
+            }
+            workloadQueues++;
+
+            if (queue.has(AUTO_WLM)) {
+                if (!queue.get(AUTO_WLM).isBoolean()) {
+                    violations.add(String.format("%s %s must be true or false.", queueName, AUTO_WLM));
+                } else if (queue.get(AUTO_WLM).booleanValue()) {
+                    autoQueues++;
+                }
+            }
+            if (queue.has(QUERY_CONCURRENCY)) {
+                final JsonNode concurrency = queue.get(QUERY_CONCURRENCY);
+                if (!concurrency.canConvertToInt() || !concurrency.isIntegralNumber() || concurrency.intValue() < 1 || concurrency.intValue() > MAX_TOTAL_CONCURRENCY) {
+                    violations.add(String.format("%s %s must be an integer between 1 and %d.", queueName, QUERY_CONCURRENCY, MAX_TOTAL_CONCURRENCY));
+                } else {
+                    totalConcurrency += concurrency.intValue();
+                }
+            }
+            if (queue.has(MEMORY_PERCENT_TO_USE)) {
+                final JsonNode memoryPercent = queue.get(MEMORY_PERCENT_TO_USE);
+                if (!memoryPercent.isIntegralNumber() || memoryPercent.intValue() < 0 || memoryPercent.intValue() > MAX_MEMORY_PERCENT) {
+                    violations.add(String.format("%s %s must be an integer between 0 and %d.", queueName, MEMORY_PERCENT_TO_USE, MAX_MEMORY_PERCENT));
+                } else {
+                    totalMemoryPercent += memoryPercent.intValue();
+                }
+            }
+            if (queue.has(PRIORITY) && !PRIORITIES.contains(queue.get(PRIORITY).asText())) {
+                violations.add(String.format("%s %s must be one of %s.", queueName, PRIORITY, PRIORITIES));
+            }
+            for (String groupKey : GROUP_KEYS) {
+                if (queue.has(groupKey) && !isStringOrStringArray(queue.get(groupKey))) {
+                    violations.add(String.format("%s %s must be a string or an array of strings.", queueName, groupKey));
+                }
+            }
+            if (queue.has(RULES)) {
+                totalRules += validateRules(queueName, queue.get(RULES), violations);
+            }
+        }
+
+        if (autoQueues > 0 && autoQueues != workloadQueues) {
+            violations.add(String.format("%s can't mix automatic and manual WLM queues.", ParameterDiff.WLM_JSON_CONFIGURATION));
+        }
+        if (workloadQueues > MAX_QUEUES) {
+            violations.add(String.format("%s can have at most %d queues, got %d.", ParameterDiff.WLM_JSON_CONFIGURATION, MAX_QUEUES, workloadQueues));
+        }
+        if (autoQueues == 0) {
+            if (totalConcurrency > MAX_TOTAL_CONCURRENCY) {
+                violations.add(String.format("Total %s of all WLM queues can't exceed %d, got %d.", QUERY_CONCURRENCY, MAX_TOTAL_CONCURRENCY, totalConcurrency));
+            }
+            if (totalMemoryPercent > MAX_MEMORY_PERCENT) {
+                violations.add(String.format("Total %s of all WLM queues can't exceed %d, got %d.", MEMORY_PERCENT_TO_USE, MAX_MEMORY_PERCENT, totalMemoryPercent));
+            }
+        }
+        if (totalRules > MAX_RULES) {
+            violations.add(String.format("WLM can have at most %d query monitoring rules, got %d.", MAX_RULES, totalRules));
+        }
+        return violations;
+    }
+
+    private static int validateRules(final String queueName, final JsonNode rules, final List<String> violations) {
+        if (!rules.isArray()) {
+            violations.add(String.format("%s %s must be an array.", queueName, RULES));
+            return 0;
+        }
+        for (JsonNode rule : rules) {
+            final String ruleName = rule.path("rule_name").asText();
+            if (!rule.isObject() || ruleName.isEmpty()) {
+                violations.add(String.format("%s has a query monitoring rule without rule_name.", queueName));
+                continue;
+            }
+            if (!RULE_ACTIONS.contains(rule.path("action").asText())) {
+                violations.add(String.format("Query monitoring rule %s action must be one of %s.", ruleName, RULE_ACTIONS));
+            }
+            final JsonNode predicates = rule.path("predicate");
+            if (!predicates.isArray() || predicates.size() == 0) {
+                violations.add(String.format("Query monitoring rule %s needs at least one predicate.", ruleName));
+                continue;
+            }
+            for (JsonNode predicate : predicates) {
+                if (predicate.path("metric_name").asText().isEmpty()
+                        || !RULE_OPERATORS.contains(predicate.path("operator").asText())
+                        || !predicate.path("value").isNumber()) {
+                    violations.add(String.format("Query monitoring rule %s predicates need a metric_name, an operator in %s and a numeric value.", ruleName, RULE_OPERATORS));
+                }
+            }
+        }
+        return rules.size();
+    }
+
+    private static boolean isStringOrStringArray(final JsonNode node) {
+        if (node.isTextual()) {
+            return true;
+        }
+        if (!node.isArray()) {
+            return false;
+        }
+        for (JsonNode element : node) {
+            if (!element.isTextual()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -8,16 +8,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.CreateClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.CreateClusterParameterGroupResponse;
-import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
-import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClusterParametersIterable;
+import software.amazon.awssdk.services.redshift.paginators.DescribeDefaultClusterParametersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -29,12 +29,15 @@ import java.time.Duration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.AWS_REGION;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.CLUSTER_PARAMETER_GROUP;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.COMPLETE_MODEL;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DESCRIBE_DEFAULT_PARAMETERS_RESPONSE;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_RESOURCE_TAGS;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.getSdkParametersFromParameters;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -52,42 +55,44 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(RedshiftClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        handler = new CreateHandler();
+        handler = new CreateHandler(new DefaultParameterCatalog(null));
     }
 
     @Test
     public void handleRequest_SimpleSuccess() {
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
-                .desiredResourceState(COMPLETE_MODEL)
+                .desiredResourceState(COMPLETE_MODEL.toBuilder().rebootAttachedClusters(true).build())
                 .region(AWS_REGION)
                 .clientRequestToken("token")
                 .logicalResourceIdentifier("logicalId")
                 .desiredResourceTags(DESIRED_RESOURCE_TAGS)
                 .build();
 
+        when(proxyClient.client().describeDefaultClusterParametersPaginator(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeDefaultClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenReturn(DESCRIBE_DEFAULT_PARAMETERS_RESPONSE);
+
         when(proxyClient.client().createClusterParameterGroup(any(CreateClusterParameterGroupRequest.class)))
                 .thenReturn(CreateClusterParameterGroupResponse.builder()
                         .clusterParameterGroup(CLUSTER_PARAMETER_GROUP)
                         .build());
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DescribeTagsResponse.builder().build());
-
-        when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
-                .thenReturn(CreateTagsResponse.builder().build());
-
         when(proxyClient.client().modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class)))
                 .thenReturn(ModifyClusterParameterGroupResponse.builder()
                         .parameterGroupName(CLUSTER_PARAMETER_GROUP.parameterGroupName())
                         .build());
 
-        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
-                .thenReturn(DescribeClusterParametersResponse.builder().build());
-
         when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
                 .thenReturn(DescribeClusterParameterGroupsResponse.builder()
                         .parameterGroups(CLUSTER_PARAMETER_GROUP)
                         .build());
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(getSdkParametersFromParameters(COMPLETE_MODEL.getParameters()))
+                        .build());
 
         CallbackContext callbackContext = new CallbackContext();
         callbackContext.setParametersApplied(true);
@@ -102,7 +107,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        assertThat(response.getResourceModel().getParameters()).isEqualTo(COMPLETE_MODEL.getParameters());
+        assertThat(response.getResourceModel().getRebootAttachedClusters()).isNull();
+
         verify(proxyClient.client()).createClusterParameterGroup(any(CreateClusterParameterGroupRequest.class));
-        verify(proxyClient.client()).describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class));
+        verify(proxyClient.client()).modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class));
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
     }
 }
@@ -0,0 +1,91 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DEFAULT_SDK_PARAMETERS;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.PARAMETER_GROUP_FAMILY;
+
+public class DefaultParameterCatalogTest extends AbstractTestBase {
+
+    @Test
+    public void get_LoadsFamilyOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DefaultParameterCatalog catalog = new DefaultParameterCatalog(null);
+
+        catalog.get(PARAMETER_GROUP_FAMILY, family -> {
+            loads.incrementAndGet();
+            return DEFAULT_SDK_PARAMETERS;
+        }, logger);
+        final Map<String, DefaultParameter> defaultParameters = catalog.get(PARAMETER_GROUP_FAMILY.toUpperCase(), family -> {
+            loads.incrementAndGet();
+            return DEFAULT_SDK_PARAMETERS;
+        }, logger);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(defaultParameters).containsOnlyKeys("auto_analyze", "datestyle", "statement_timeout", "wlm_json_configuration");
+        assertThat(defaultParameters.get("statement_timeout").getApplyType()).isEqualTo(DefaultParameter.APPLY_TYPE_DYNAMIC);
+    }
+
+    @Test
+    public void get_DoesNotCacheEmptyFamily() {
+        final AtomicInteger loads = new AtomicInteger();
+        final DefaultParameterCatalog catalog = new DefaultParameterCatalog(null);
+
+        assertThat(catalog.get(PARAMETER_GROUP_FAMILY, family -> {
+            loads.incrementAndGet();
+            return Collections.emptyList();
+        }, logger)).isEmpty();
+        final Map<String, DefaultParameter> defaultParameters = catalog.get(PARAMETER_GROUP_FAMILY, family -> {
+            loads.incrementAndGet();
+            return DEFAULT_SDK_PARAMETERS;
+        }, logger);
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(defaultParameters).hasSize(DEFAULT_SDK_PARAMETERS.size());
+    }
+
+    @Test
+    public void get_ReadsPersistedFamily(@TempDir final Path persistenceDirectory) {
+        new DefaultParameterCatalog(persistenceDirectory).get(PARAMETER_GROUP_FAMILY, family -> DEFAULT_SDK_PARAMETERS, logger);
+
+        // a fresh catalog, e.g. in a new container, finds the family on disk and never calls the service
+        final Map<String, DefaultParameter> defaultParameters = new DefaultParameterCatalog(persistenceDirectory)
+                .get(PARAMETER_GROUP_FAMILY, family -> {
+                    throw new IllegalStateException("should have been read from the persistence directory");
+                }, logger);
+
+        assertThat(defaultParameters).hasSize(DEFAULT_SDK_PARAMETERS.size());
+        assertThat(defaultParameters.get("auto_analyze")).isEqualTo(DefaultParameter.fromSdkParameter(DEFAULT_SDK_PARAMETERS.get(0)));
+    }
+
+    @Test
+    public void validate_BooleanAndIntegerValues() {
+        final DefaultParameter autoAnalyze = DefaultParameter.fromSdkParameter(DEFAULT_SDK_PARAMETERS.get(0));
+        final DefaultParameter statementTimeout = DefaultParameter.fromSdkParameter(DEFAULT_SDK_PARAMETERS.get(2));
+
+        assertThat(autoAnalyze.validate("TRUE")).isNull();
+        assertThat(autoAnalyze.validate("yes")).contains("auto_analyze");
+        assertThat(statementTimeout.validate("0")).isNull();
+        assertThat(statementTimeout.validate("100")).isNull();
+        assertThat(statementTimeout.validate("50")).contains("statement_timeout");
+        assertThat(statementTimeout.validate("ten")).contains("must be an integer");
+    }
+
+    @Test
+    public void validate_NotModifiable() {
+        final DefaultParameter defaultParameter = DefaultParameter.builder()
+                .parameterName("max_cursor_result_set_size")
+                .dataType("integer")
+                .modifiable(false)
+                .build();
+
+        assertThat(defaultParameter.validate("1")).contains("not modifiable");
+    }
+}
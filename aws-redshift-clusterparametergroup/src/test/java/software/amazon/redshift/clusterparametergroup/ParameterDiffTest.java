@@ -0,0 +1,112 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_PARAMETERS;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.PREVIOUS_PARAMETERS;
+
+public class ParameterDiffTest {
+
+    @Test
+    public void between_PartitionsParameters() {
+        final ParameterDiff parameterDiff = ParameterDiff.between(
+                Arrays.asList(parameter("statement_timeout", "1000"), parameter("DateStyle", "ISO, MDY"), parameter("enable_user_activity_logging", "true")),
+                Arrays.asList(parameter("auto_analyze", "true"), parameter("datestyle", "ISO, MDY"), parameter("enable_user_activity_logging", "false")));
+
+        assertThat(parameterDiff.getParametersToSet()).containsOnlyKeys("statement_timeout", "enable_user_activity_logging");
+        assertThat(parameterDiff.getParametersToSet()).containsEntry("enable_user_activity_logging", "true");
+        assertThat(parameterDiff.getParametersToReset()).containsExactly("auto_analyze");
+        assertThat(parameterDiff.getUnchangedParameters()).containsExactly("datestyle");
+        assertThat(parameterDiff.toUpdatableParameters(UpdateHandler.NEED_TO_BE_RESET)).containsExactly(
+                parameter("statement_timeout", "1000"),
+                parameter("enable_user_activity_logging", "true"),
+                parameter("auto_analyze", UpdateHandler.NEED_TO_BE_RESET));
+    }
+
+    @Test
+    public void between_NullParameters() {
+        assertThat(ParameterDiff.between(null, null).toUpdatableParameters(UpdateHandler.NEED_TO_BE_RESET)).isEmpty();
+        assertThat(ParameterDiff.between(null, DESIRED_PARAMETERS).getParametersToReset())
+                .containsExactly("auto_analyze", "datestyle", ParameterDiff.WLM_JSON_CONFIGURATION);
+    }
+
+    @Test
+    public void between_WlmFormattingIsNotAChange() {
+        final ParameterDiff parameterDiff = ParameterDiff.between(DESIRED_PARAMETERS, PREVIOUS_PARAMETERS);
+
+        assertThat(parameterDiff.getParametersToSet()).containsOnlyKeys("auto_analyze");
+        assertThat(parameterDiff.getParametersToReset()).isEmpty();
+        assertThat(parameterDiff.getUnchangedParameters()).containsExactly("datestyle", ParameterDiff.WLM_JSON_CONFIGURATION);
+    }
+
+    @Test
+    public void between_WlmKeyOrderIsNotAChange() {
+        final ParameterDiff parameterDiff = ParameterDiff.between(
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "[{\"query_concurrency\":7,\"user_group\":\"group1\"}]")),
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "[ {\"user_group\": \"group1\", \"query_concurrency\": 7} ]")));
+
+        assertThat(parameterDiff.getUnchangedParameters()).containsExactly(ParameterDiff.WLM_JSON_CONFIGURATION);
+        assertThat(parameterDiff.toUpdatableParameters(UpdateHandler.NEED_TO_BE_RESET)).isEmpty();
+    }
+
+    @Test
+    public void between_WlmQueueOrderIsAChange() {
+        final ParameterDiff parameterDiff = ParameterDiff.between(
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "[{\"query_concurrency\":5},{\"query_concurrency\":7}]")),
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "[{\"query_concurrency\":7},{\"query_concurrency\":5}]")));
+
+        assertThat(parameterDiff.getParametersToSet()).containsOnlyKeys(ParameterDiff.WLM_JSON_CONFIGURATION);
+    }
+
+    @Test
+    public void between_InvalidWlmIsAlwaysAChange() {
+        final ParameterDiff parameterDiff = ParameterDiff.between(
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "{invalid]")),
+                Collections.singletonList(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, "{ invalid]")));
+
+        assertThat(parameterDiff.getParametersToSet()).containsEntry(ParameterDiff.WLM_JSON_CONFIGURATION, "{invalid]");
+    }
+
+    @Test
+    public void between_LargeParameterGroup() {
+        final String wlm = IntStream.range(0, 50)
+                .mapToObj(i -> String.format("{\"user_group\":\"group%d\",\"query_group\":\"query%d\",\"query_concurrency\":%d}", i, i, i % 8 + 1))
+                .collect(Collectors.joining(",", "[", "]"));
+        final String reformattedWlm = IntStream.range(0, 50)
+                .mapToObj(i -> String.format("{ \"query_concurrency\": %d, \"query_group\": \"query%d\", \"user_group\": \"group%d\" }", i % 8 + 1, i, i))
+                .collect(Collectors.joining(", ", "[ ", " ]"));
+
+        final List<Parameter> desiredParameters = new ArrayList<>();
+        final List<Parameter> previousParameters = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            desiredParameters.add(parameter("parameter_" + i, i % 10 == 0 ? "changed" : "value_" + i));
+            previousParameters.add(parameter("PARAMETER_" + i, "value_" + i));
+        }
+        previousParameters.add(parameter("removed_parameter", "value"));
+        desiredParameters.add(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, wlm));
+        previousParameters.add(parameter(ParameterDiff.WLM_JSON_CONFIGURATION, reformattedWlm));
+
+        final ParameterDiff parameterDiff = ParameterDiff.between(desiredParameters, previousParameters);
+
+        assertThat(parameterDiff.getParametersToSet()).hasSize(50);
+        assertThat(parameterDiff.getParametersToReset()).containsExactly("removed_parameter");
+        assertThat(parameterDiff.getUnchangedParameters()).hasSize(451).contains(ParameterDiff.WLM_JSON_CONFIGURATION);
+        // the canonical form is memoized, a second diff over the same configuration gives the same answer
+        assertThat(ParameterDiff.canonicalWlm(wlm)).isEqualTo(ParameterDiff.canonicalWlm(reformattedWlm));
+    }
+
+    private static Parameter parameter(final String name, final String value) {
+        return Parameter.builder()
+                .parameterName(name)
+                .parameterValue(value)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package software.amazon.redshift.clusterparametergroup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
@@ -10,6 +11,7 @@ import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGr
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClusterParametersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -17,6 +19,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,6 +29,8 @@ import static software.amazon.redshift.clusterparametergroup.TestUtils.AWS_REGIO
 import static software.amazon.redshift.clusterparametergroup.TestUtils.CLUSTER_PARAMETER_GROUP;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.COMPLETE_MODEL;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_RESOURCE_TAGS;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_PARAMETERS;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.getSdkParametersFromParameters;
 
 @ExtendWith(MockitoExtension.class)
 public class ReadHandlerTest extends AbstractTestBase {
@@ -50,6 +55,8 @@ public class ReadHandlerTest extends AbstractTestBase {
     public void handleRequest_Success() {
         final ResourceModel model = COMPLETE_MODEL;
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder().build());
 
@@ -72,4 +79,43 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModels()).isNull();
     }
+
+    @Test
+    public void handleRequest_PaginatedUserParameters() {
+        final ResourceModel model = COMPLETE_MODEL;
+        final List<software.amazon.awssdk.services.redshift.model.Parameter> sdkParameters = getSdkParametersFromParameters(DESIRED_PARAMETERS);
+
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
+        ArgumentCaptor<DescribeClusterParametersRequest> describeParametersCaptor = ArgumentCaptor.forClass(DescribeClusterParametersRequest.class);
+        when(proxyClient.client().describeClusterParameters(describeParametersCaptor.capture()))
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(sdkParameters.subList(0, 1))
+                        .marker("page-2")
+                        .build())
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(sdkParameters.subList(1, sdkParameters.size()))
+                        .build());
+
+        when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
+                .thenReturn(DescribeClusterParameterGroupsResponse.builder()
+                        .parameterGroups(CLUSTER_PARAMETER_GROUP)
+                        .build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .region(AWS_REGION)
+                .logicalResourceIdentifier("logicalId")
+                .clientRequestToken("token")
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getParameters()).hasSize(sdkParameters.size());
+
+        assertThat(describeParametersCaptor.getAllValues()).hasSize(2);
+        assertThat(describeParametersCaptor.getAllValues().get(0).source()).isEqualTo("user");
+        assertThat(describeParametersCaptor.getAllValues().get(1).marker()).isEqualTo("page-2");
+    }
 }
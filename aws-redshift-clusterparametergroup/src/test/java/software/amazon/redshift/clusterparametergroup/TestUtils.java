@@ -2,6 +2,8 @@ package software.amazon.redshift.clusterparametergroup;
 
 import com.google.common.collect.ImmutableMap;
 import software.amazon.awssdk.services.redshift.model.ClusterParameterGroup;
+import software.amazon.awssdk.services.redshift.model.DefaultClusterParameters;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.TaggedResource;
 
@@ -74,6 +76,24 @@ public class TestUtils {
             software.amazon.awssdk.services.redshift.model.Parameter.builder().parameterName("statement_timeout").parameterValue("1000").isModifiable(true).build()
     );
 
+    final static List<software.amazon.awssdk.services.redshift.model.Parameter> DEFAULT_SDK_PARAMETERS = Arrays.asList(
+            software.amazon.awssdk.services.redshift.model.Parameter.builder().parameterName("auto_analyze").parameterValue("true")
+                    .dataType("boolean").allowedValues("true,false").applyType("static").isModifiable(true).build(),
+            software.amazon.awssdk.services.redshift.model.Parameter.builder().parameterName("datestyle").parameterValue("ISO, MDY")
+                    .dataType("string").applyType("static").isModifiable(true).build(),
+            software.amazon.awssdk.services.redshift.model.Parameter.builder().parameterName("statement_timeout").parameterValue("0")
+                    .dataType("integer").allowedValues("0,100-2147483647").applyType("dynamic").isModifiable(true).build(),
+            software.amazon.awssdk.services.redshift.model.Parameter.builder().parameterName("wlm_json_configuration").parameterValue("[{\"auto_wlm\":true}]")
+                    .dataType("string").applyType("static").isModifiable(true).build()
+    );
+
+    final static DescribeDefaultClusterParametersResponse DESCRIBE_DEFAULT_PARAMETERS_RESPONSE = DescribeDefaultClusterParametersResponse.builder()
+            .defaultClusterParameters(DefaultClusterParameters.builder()
+                    .parameterGroupFamily(PARAMETER_GROUP_FAMILY)
+                    .parameters(DEFAULT_SDK_PARAMETERS)
+                    .build())
+            .build();
+
     final static List<software.amazon.awssdk.services.redshift.model.Parameter> getSdkParametersFromParameters(List<Parameter> parameters) {
         return parameters.stream().map(param -> software.amazon.awssdk.services.redshift.model.Parameter.builder()
                 .parameterName(param.getParameterName())
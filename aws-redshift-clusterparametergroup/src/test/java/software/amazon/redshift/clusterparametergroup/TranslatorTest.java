@@ -0,0 +1,68 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
+import software.amazon.awssdk.services.redshift.model.TaggedResource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.COMPLETE_MODEL;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_PARAMETERS;
+
+public class TranslatorTest {
+
+    @Test
+    public void translateToSdkParameters_MapsNameAndValue() {
+        final List<software.amazon.awssdk.services.redshift.model.Parameter> sdkParameters = Translator.translateToSdkParameters(DESIRED_PARAMETERS);
+
+        assertThat(sdkParameters).hasSameSizeAs(DESIRED_PARAMETERS);
+        for (int i = 0; i < DESIRED_PARAMETERS.size(); i++) {
+            assertThat(sdkParameters.get(i).parameterName()).isEqualTo(DESIRED_PARAMETERS.get(i).getParameterName());
+            assertThat(sdkParameters.get(i).parameterValue()).isEqualTo(DESIRED_PARAMETERS.get(i).getParameterValue());
+        }
+        assertThat(Translator.translateToSdkParameters(null)).isNull();
+    }
+
+    @Test
+    public void translateFromReadParametersResponse_KeepsOnlyNameAndValue() {
+        final List<software.amazon.awssdk.services.redshift.model.Parameter> sdkParameters = IntStream.range(0, 1000)
+                .mapToObj(i -> software.amazon.awssdk.services.redshift.model.Parameter.builder()
+                        .parameterName("parameter_" + i)
+                        .parameterValue(i % 2 == 0 ? "value_" + i : null)
+                        .source("user")
+                        .dataType("string")
+                        .applyType("static")
+                        .isModifiable(true)
+                        .build())
+                .collect(Collectors.toList());
+
+        final ResourceModel model = Translator.translateFromReadParametersResponse(DescribeClusterParametersResponse.builder()
+                .parameters(sdkParameters)
+                .build(), COMPLETE_MODEL);
+
+        assertThat(model.getParameters()).hasSize(1000);
+        assertThat(model.getParameters().get(0)).isEqualTo(Parameter.builder().parameterName("parameter_0").parameterValue("value_0").build());
+        assertThat(model.getParameters().get(1)).isEqualTo(Parameter.builder().parameterName("parameter_1").build());
+    }
+
+    @Test
+    public void translateTags_RoundTrip() {
+        final List<Tag> tags = IntStream.range(0, 50)
+                .mapToObj(i -> Tag.builder().key("key" + i).value("value" + i).build())
+                .collect(Collectors.toList());
+
+        final ResourceModel model = Translator.translateFromReadTagsResponse(DescribeTagsResponse.builder()
+                .taggedResources(Translator.translateToSdkTags(tags)
+                        .stream()
+                        .map(tag -> TaggedResource.builder().tag(tag).build())
+                        .collect(Collectors.toList()))
+                .build());
+
+        assertThat(model.getTags()).isEqualTo(tags);
+        assertThat(Translator.translateToSdkTags(null)).isNull();
+    }
+}
@@ -12,6 +12,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterParameterGroupStatus;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
@@ -19,13 +21,22 @@ import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGr
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParameterGroupsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterParametersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeDefaultClusterParametersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.model.RebootClusterRequest;
+import software.amazon.awssdk.services.redshift.model.RebootClusterResponse;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupRequest;
 import software.amazon.awssdk.services.redshift.model.ResetClusterParameterGroupResponse;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClusterParametersIterable;
+import software.amazon.awssdk.services.redshift.paginators.DescribeClustersIterable;
+import software.amazon.awssdk.services.redshift.paginators.DescribeDefaultClusterParametersIterable;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -33,18 +44,22 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.AWS_REGION;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.CLUSTER_PARAMETER_GROUP;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.COMPLETE_MODEL;
-import static software.amazon.redshift.clusterparametergroup.TestUtils.DESCRIBE_TAGS_RESPONSE_CREATING;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.DESCRIBE_DEFAULT_PARAMETERS_RESPONSE;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.DESCRIPTION;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_PARAMETERS;
 import static software.amazon.redshift.clusterparametergroup.TestUtils.DESIRED_RESOURCE_TAGS;
@@ -74,7 +89,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         sdkClient = mock(RedshiftClient.class);
         proxyClient = MOCK_PROXY(proxy, sdkClient);
-        handler = new UpdateHandler();
+        handler = new UpdateHandler(new DefaultParameterCatalog(null));
+
+        when(proxyClient.client().describeDefaultClusterParametersPaginator(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeDefaultClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeDefaultClusterParameters(any(DescribeDefaultClusterParametersRequest.class)))
+                .thenReturn(DESCRIBE_DEFAULT_PARAMETERS_RESPONSE);
     }
 
     @Test
@@ -92,9 +112,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .parameterGroupStatus("Your parameter group has been updated")
                         .build());
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DESCRIBE_TAGS_RESPONSE_CREATING);
-
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder().build());
 
@@ -116,6 +135,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client()).createTags(createTagArgument.capture());
         ArgumentCaptor<DeleteTagsRequest> deleteTagArgument = ArgumentCaptor.forClass(DeleteTagsRequest.class);
         verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
     }
 
     @Test
@@ -126,9 +146,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .region(AWS_REGION)
                 .build();
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DescribeTagsResponse.builder().build());
-
         when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
                 .thenReturn(CreateTagsResponse.builder().build());
 
@@ -138,6 +155,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .parameterGroupStatus("Your parameter group has been updated")
                         .build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(PREVIOUS_PARAMETERS))
@@ -182,9 +201,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .region(AWS_REGION)
                 .build();
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DescribeTagsResponse.builder().build());
-
         when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
                 .thenReturn(CreateTagsResponse.builder().build());
 
@@ -194,6 +210,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .parameterGroupStatus("Your parameter group has been updated")
                         .build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(PREVIOUS_PARAMETERS))
@@ -209,6 +227,277 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, invalidJSONRequest, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("wlm_json_configuration is not valid JSON");
+        verify(proxyClient.client(), never()).modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_InvalidWlmRejectedLocally() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Collections.singletonList(Parameter.builder()
+                                .parameterName("wlm_json_configuration")
+                                .parameterValue("[{\"query_concurrency\":5,\"memory_percent_to_use\":60},{\"query_concurrency\":5,\"memory_percent_to_use\":50}]")
+                                .build()))
+                        .build())
+                .region(AWS_REGION)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("memory_percent_to_use");
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+        verify(proxyClient.client(), never()).modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_InvalidParametersRejectedLocally() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Arrays.asList(
+                                Parameter.builder().parameterName("auto_analyze").parameterValue("yes").build(),
+                                Parameter.builder().parameterName("statement_timeout").parameterValue("50").build()))
+                        .build())
+                .region(AWS_REGION)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("auto_analyze", "statement_timeout");
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+        verify(proxyClient.client(), never()).modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DynamicParameterChangeNeedsNoReboot() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Collections.singletonList(Parameter.builder().parameterName("statement_timeout").parameterValue("1000").build()))
+                        .build())
+                .region(AWS_REGION)
+                .build();
+        stubChunkedParameterUpdate(Collections.singletonList(Parameter.builder().parameterName("statement_timeout").parameterValue("500").build()));
+        when(proxyClient.client().modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class)))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(context.isRebootRequired()).isFalse();
+    }
+
+    @Test
+    public void handleRequest_StaticParameterChangeNeedsReboot() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Collections.singletonList(Parameter.builder().parameterName("statement_timeout").parameterValue("1000").build()))
+                        .build())
+                .region(AWS_REGION)
+                .build();
+        // auto_analyze is static and gets reset
+        stubChunkedParameterUpdate(Collections.singletonList(Parameter.builder().parameterName("auto_analyze").parameterValue("false").build()));
+        when(proxyClient.client().modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class)))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+        when(proxyClient.client().resetClusterParameterGroup(any(ResetClusterParameterGroupRequest.class)))
+                .thenReturn(ResetClusterParameterGroupResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(context.isRebootRequired()).isTrue();
+    }
+
+    @Test
+    public void handleRequest_RollingRebootOfAttachedClusters() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Collections.singletonList(Parameter.builder().parameterName("auto_analyze").parameterValue("false").build()))
+                        .rebootAttachedClusters(true)
+                        .build())
+                .region(AWS_REGION)
+                .build();
+        stubChunkedParameterUpdate(Collections.emptyList());
+        when(proxyClient.client().modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class)))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+
+        // 6 clusters use the parameter group, another one doesn't
+        final List<Cluster> clusters = IntStream.range(0, 7)
+                .mapToObj(i -> Cluster.builder()
+                        .clusterIdentifier("cluster-" + i)
+                        .clusterStatus("available")
+                        .clusterParameterGroups(ClusterParameterGroupStatus.builder()
+                                .parameterGroupName(i == 6 ? "other-parameter-group" : PARAMETER_GROUP_NAME)
+                                .build())
+                        .build())
+                .collect(Collectors.toList());
+        when(proxyClient.client().describeClustersPaginator(any(DescribeClustersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClustersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenAnswer(invocation -> {
+            final DescribeClustersRequest describeRequest = invocation.getArgument(0);
+            return DescribeClustersResponse.builder()
+                    .clusters(clusters.stream()
+                            .filter(cluster -> describeRequest.clusterIdentifier() == null || cluster.clusterIdentifier().equals(describeRequest.clusterIdentifier()))
+                            .collect(Collectors.toList()))
+                    .build();
+        });
+        ArgumentCaptor<RebootClusterRequest> rebootCaptor = ArgumentCaptor.forClass(RebootClusterRequest.class);
+        when(proxyClient.client().rebootCluster(rebootCaptor.capture()))
+                .thenReturn(RebootClusterResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(context.getClustersRebooting()).containsExactly("cluster-0", "cluster-1", "cluster-2", "cluster-3", "cluster-4");
+        assertThat(context.getClustersPendingReboot()).containsExactly("cluster-5");
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(context.getClustersRebooting()).containsExactly("cluster-5");
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(rebootCaptor.getAllValues()).extracting(RebootClusterRequest::clusterIdentifier)
+                .containsExactly("cluster-0", "cluster-1", "cluster-2", "cluster-3", "cluster-4", "cluster-5");
+    }
+
+    @Test
+    public void handleRequest_RollingRebootSkipsPausedCluster() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder()
+                        .parameters(Collections.singletonList(Parameter.builder().parameterName("auto_analyze").parameterValue("false").build()))
+                        .rebootAttachedClusters(true)
+                        .build())
+                .region(AWS_REGION)
+                .build();
+        stubChunkedParameterUpdate(Collections.emptyList());
+        when(proxyClient.client().modifyClusterParameterGroup(any(ModifyClusterParameterGroupRequest.class)))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+
+        final List<Cluster> clusters = Arrays.asList(
+                Cluster.builder()
+                        .clusterIdentifier("cluster-available")
+                        .clusterStatus("available")
+                        .clusterParameterGroups(ClusterParameterGroupStatus.builder().parameterGroupName(PARAMETER_GROUP_NAME).build())
+                        .build(),
+                Cluster.builder()
+                        .clusterIdentifier("cluster-paused")
+                        .clusterStatus("paused")
+                        .clusterParameterGroups(ClusterParameterGroupStatus.builder().parameterGroupName(PARAMETER_GROUP_NAME).build())
+                        .build());
+        when(proxyClient.client().describeClustersPaginator(any(DescribeClustersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClustersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeClusters(any(DescribeClustersRequest.class))).thenAnswer(invocation -> {
+            final DescribeClustersRequest describeRequest = invocation.getArgument(0);
+            return DescribeClustersResponse.builder()
+                    .clusters(clusters.stream()
+                            .filter(cluster -> describeRequest.clusterIdentifier() == null || cluster.clusterIdentifier().equals(describeRequest.clusterIdentifier()))
+                            .collect(Collectors.toList()))
+                    .build();
+        });
+        when(proxyClient.client().rebootCluster(any(RebootClusterRequest.class))).thenAnswer(invocation -> {
+            final RebootClusterRequest rebootRequest = invocation.getArgument(0);
+            if ("cluster-paused".equals(rebootRequest.clusterIdentifier())) {
+                throw InvalidClusterStateException.builder().message("Cluster is paused").build();
+            }
+            return RebootClusterResponse.builder().build();
+        });
+
+        final CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        // the paused cluster is skipped rather than waited for
+        assertThat(context.getClustersRebooting()).containsExactly("cluster-available");
+        assertThat(context.getClustersPendingReboot()).isEmpty();
+
+        response = handler.handleRequest(proxy, request, response.getCallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_ChunkedParameterUpdates() {
+        final List<Parameter> desiredParameters = IntStream.range(0, 45)
+                .mapToObj(i -> Parameter.builder().parameterName("parameter_" + i).parameterValue("value_" + i).build())
+                .collect(Collectors.toList());
+        final List<Parameter> previousParameters = IntStream.range(45, 70)
+                .mapToObj(i -> Parameter.builder().parameterName("parameter_" + i).parameterValue("value_" + i).build())
+                .collect(Collectors.toList());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder().parameters(desiredParameters).build())
+                .region(AWS_REGION)
+                .build();
+        stubChunkedParameterUpdate(previousParameters);
+
+        ArgumentCaptor<ModifyClusterParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyClusterParameterGroupRequest.class);
+        when(proxyClient.client().modifyClusterParameterGroup(modifyCaptor.capture()))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+        ArgumentCaptor<ResetClusterParameterGroupRequest> resetCaptor = ArgumentCaptor.forClass(ResetClusterParameterGroupRequest.class);
+        when(proxyClient.client().resetClusterParameterGroup(resetCaptor.capture()))
+                .thenReturn(ResetClusterParameterGroupResponse.builder().build());
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(modifyCaptor.getAllValues()).extracting(modifyRequest -> modifyRequest.parameters().size()).containsExactly(20, 20, 5);
+        assertThat(resetCaptor.getAllValues()).extracting(resetRequest -> resetRequest.parameters().size()).containsExactly(20, 5);
+        assertThat(context.getModifyChunksApplied()).isEqualTo(3);
+        assertThat(context.getResetChunksApplied()).isEqualTo(2);
+    }
+
+    @Test
+    public void handleRequest_ResumeChunkedParameterUpdates() {
+        final List<Parameter> desiredParameters = IntStream.range(0, 45)
+                .mapToObj(i -> Parameter.builder().parameterName("parameter_" + i).parameterValue("value_" + i).build())
+                .collect(Collectors.toList());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(COMPLETE_MODEL.toBuilder().parameters(desiredParameters).build())
+                .region(AWS_REGION)
+                .build();
+        stubChunkedParameterUpdate(Collections.emptyList());
+
+        ArgumentCaptor<ModifyClusterParameterGroupRequest> modifyCaptor = ArgumentCaptor.forClass(ModifyClusterParameterGroupRequest.class);
+        when(proxyClient.client().modifyClusterParameterGroup(modifyCaptor.capture()))
+                .thenReturn(ModifyClusterParameterGroupResponse.builder().build());
+
+        // the first two chunks were applied by a previous invocation
+        final CallbackContext context = new CallbackContext();
+        context.setModifyChunksApplied(2);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(modifyCaptor.getAllValues()).hasSize(1);
+        assertThat(modifyCaptor.getValue().parameters()).extracting(software.amazon.awssdk.services.redshift.model.Parameter::parameterName)
+                .containsExactly("parameter_40", "parameter_41", "parameter_42", "parameter_43", "parameter_44");
+        verify(proxyClient.client(), never()).resetClusterParameterGroup(any(ResetClusterParameterGroupRequest.class));
+    }
+
+    private void stubChunkedParameterUpdate(final List<Parameter> previousParameters) {
+        when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
+                .thenReturn(CreateTagsResponse.builder().build());
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
+        when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
+                .thenReturn(DescribeClusterParametersResponse.builder()
+                        .parameters(getSdkParametersFromParameters(previousParameters))
+                        .build());
+        when(proxyClient.client().describeClusterParameterGroups(any(DescribeClusterParameterGroupsRequest.class)))
+                .thenReturn(DescribeClusterParameterGroupsResponse.builder()
+                        .parameterGroups(CLUSTER_PARAMETER_GROUP)
+                        .build());
     }
 
     /*
@@ -310,12 +599,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .region(AWS_REGION)
                 .build();
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DescribeTagsResponse.builder().build());
-
         when(proxyClient.client().createTags(any(CreateTagsRequest.class)))
                 .thenReturn(CreateTagsResponse.builder().build());
 
+        when(proxyClient.client().describeClusterParametersPaginator(any(DescribeClusterParametersRequest.class)))
+                .thenAnswer(invocation -> new DescribeClusterParametersIterable(proxyClient.client(), invocation.getArgument(0)));
         when(proxyClient.client().describeClusterParameters(any(DescribeClusterParametersRequest.class)))
                 .thenReturn(DescribeClusterParametersResponse.builder()
                         .parameters(getSdkParametersFromParameters(previousParameters))
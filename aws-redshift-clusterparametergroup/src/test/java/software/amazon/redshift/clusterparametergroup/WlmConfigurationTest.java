@@ -0,0 +1,78 @@
+package software.amazon.redshift.clusterparametergroup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.redshift.clusterparametergroup.TestUtils.WLM_JSON_CONFIGURATION;
+
+public class WlmConfigurationTest {
+
+    @Test
+    public void parse_ValidManualWlm() {
+        final WlmConfiguration wlmConfiguration = WlmConfiguration.parse(WLM_JSON_CONFIGURATION);
+
+        assertThat(wlmConfiguration.isValid()).isTrue();
+        assertThat(wlmConfiguration.toCanonicalJson()).isEqualTo(
+                "[{\"query_concurrency\":7,\"query_group\":\"example_query_group1\",\"user_group\":\"example_user_group1\"},{\"query_concurrency\":5}]");
+    }
+
+    @Test
+    public void parse_ValidAutoWlmWithRulesAndShortQueryQueue() {
+        final WlmConfiguration wlmConfiguration = WlmConfiguration.parse("["
+                + "{\"auto_wlm\":true,\"priority\":\"high\",\"user_group\":[\"etl\"],\"rules\":[{\"rule_name\":\"long_running\","
+                + "\"predicate\":[{\"metric_name\":\"query_execution_time\",\"operator\":\">\",\"value\":600}],\"action\":\"abort\"}]},"
+                + "{\"auto_wlm\":true,\"priority\":\"normal\"},"
+                + "{\"short_query_queue\":true}]");
+
+        assertThat(wlmConfiguration.getViolations()).isEmpty();
+    }
+
+    @Test
+    public void parse_InvalidJson() {
+        final WlmConfiguration wlmConfiguration = WlmConfiguration.parse("{invalid]");
+
+        assertThat(wlmConfiguration.getViolations()).hasSize(1).allSatisfy(violation -> assertThat(violation).contains("is not valid JSON"));
+        assertThat(wlmConfiguration.toCanonicalJson()).isNull();
+    }
+
+    @Test
+    public void parse_NotAQueueList() {
+        assertThat(WlmConfiguration.parse("{\"query_concurrency\":5}").getViolations()).hasSize(1).allSatisfy(violation -> assertThat(violation).contains("non-empty JSON array"));
+        assertThat(WlmConfiguration.parse("[]").isValid()).isFalse();
+        assertThat(WlmConfiguration.parse("[5]").getViolations()).hasSize(1).allSatisfy(violation -> assertThat(violation).contains("must be a JSON object"));
+    }
+
+    @Test
+    public void parse_ManualWlmLimits() {
+        assertThat(WlmConfiguration.parse("[{\"query_concurrency\":0}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("query_concurrency must be an integer between 1 and 50"));
+        assertThat(WlmConfiguration.parse("[{\"query_concurrency\":30},{\"query_concurrency\":30}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("Total query_concurrency"));
+        assertThat(WlmConfiguration.parse("[{\"memory_percent_to_use\":70},{\"memory_percent_to_use\":40}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("Total memory_percent_to_use"));
+        assertThat(WlmConfiguration.parse(IntStream.range(0, 9)
+                .mapToObj(i -> "{\"query_concurrency\":1}")
+                .collect(Collectors.joining(",", "[", "]"))).getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("at most 8 queues"));
+    }
+
+    @Test
+    public void parse_MixedAutoAndManualWlm() {
+        assertThat(WlmConfiguration.parse("[{\"auto_wlm\":true},{\"query_concurrency\":5}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("can't mix automatic and manual"));
+    }
+
+    @Test
+    public void parse_InvalidGroupsAndRules() {
+        assertThat(WlmConfiguration.parse("[{\"user_group\":[\"etl\",5]}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("user_group must be a string or an array of strings"));
+        assertThat(WlmConfiguration.parse("[{\"rules\":[{\"rule_name\":\"r1\",\"predicate\":[],\"action\":\"abort\"}]}]").getViolations())
+                .hasSize(1).allSatisfy(violation -> assertThat(violation).contains("needs at least one predicate"));
+        assertThat(WlmConfiguration.parse("[{\"rules\":[{\"rule_name\":\"r1\",\"action\":\"kill\","
+                + "\"predicate\":[{\"metric_name\":\"query_cpu_time\",\"operator\":\">=\",\"value\":\"10\"}]}]}]").getViolations())
+                .hasSize(2);
+    }
+}
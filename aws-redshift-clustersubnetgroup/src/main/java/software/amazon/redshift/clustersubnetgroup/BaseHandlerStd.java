@@ -7,6 +7,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -30,4 +36,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final CallbackContext callbackContext,
     final ProxyClient<RedshiftClient> proxyClient,
     final Logger logger);
+
+  /*
+  true when neither the description, the subnets nor the tags change. The subnet ids are compared as a set,
+  the service doesn't keep their order.
+   */
+  protected static boolean isNoOpUpdate(final ResourceHandlerRequest<ResourceModel> request) {
+    final ResourceModel desired = request.getDesiredResourceState();
+    final ResourceModel previous = request.getPreviousResourceState();
+    return desired != null && previous != null
+        && Objects.equals(desired.getClusterSubnetGroupName(), previous.getClusterSubnetGroupName())
+        && Objects.equals(desired.getDescription(), previous.getDescription())
+        && sameElements(desired.getSubnetIds(), previous.getSubnetIds())
+        && sameElements(desired.getTags(), previous.getTags())
+        // stack level tags arrive outside of the model
+        && Objects.equals(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()),
+            Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
+  }
+
+  protected static <T> boolean sameElements(final Collection<T> first, final Collection<T> second) {
+    // a missing list and an empty one both leave the property unset
+    return (first == null ? new HashSet<T>() : new HashSet<>(first))
+        .equals(second == null ? new HashSet<T>() : new HashSet<>(second));
+  }
 }
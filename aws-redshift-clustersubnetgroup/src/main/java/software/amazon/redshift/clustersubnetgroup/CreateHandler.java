@@ -17,7 +17,6 @@ import java.util.UUID;
 
 public class CreateHandler extends BaseHandlerStd {
 
-    private Logger logger;
     private static final int MAX_SUBNET_GROUP_NAME_LENGTH = 255;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,14 +26,13 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> proxy.initiate("AWS-Redshift-ClusterSubnetGroup::Create", proxyClient, model, callbackContext)
                         .translateToServiceRequest((m) -> Translator.translateToCreateRequest(generateSubnetGroupName(request),
                                 m, request.getDesiredResourceTags()))
-                        .makeServiceCall(this::createResource)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> createResource(_awsRequest, _proxyClient, logger))
                         .handleError((createDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
                             if (exception instanceof ClusterSubnetGroupAlreadyExistsException) {
                                 return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.AlreadyExists);
@@ -47,7 +45,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateClusterSubnetGroupResponse createResource(
             final CreateClusterSubnetGroupRequest createRequest,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         CreateClusterSubnetGroupResponse createResponse = null;
 
         createResponse = proxyClient.injectCredentialsAndInvokeV2(createRequest, proxyClient.client()::createClusterSubnetGroup);
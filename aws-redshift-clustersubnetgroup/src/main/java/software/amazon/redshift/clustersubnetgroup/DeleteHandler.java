@@ -16,7 +16,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -25,14 +24,12 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
         return ProgressEvent.progress(model, callbackContext)
             .then(progress ->
                     proxy.initiate("AWS-Redshift-ClusterSubnetGroup::Delete", proxyClient, model, callbackContext)
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
-                    .makeServiceCall(this::deleteResource)
+                    .makeServiceCall((_awsRequest, _proxyClient) -> deleteResource(_awsRequest, _proxyClient, logger))
                     .handleError((deleteDbSubnetGroupRequest, exception, client, resourceModel, cxt) -> {
                         if (exception instanceof ClusterSubnetGroupNotFoundException) {
                             return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
@@ -45,7 +42,8 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteClusterSubnetGroupResponse deleteResource(
         final DeleteClusterSubnetGroupRequest deleteRequest,
-        final ProxyClient<RedshiftClient> proxyClient) {
+        final ProxyClient<RedshiftClient> proxyClient,
+        final Logger logger) {
         DeleteClusterSubnetGroupResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(deleteRequest,
                 proxyClient.client()::deleteClusterSubnetGroup);
         logger.log(String.format("%s [%s] Deleted Successfully", ResourceModel.TYPE_NAME, deleteRequest.clusterSubnetGroupName()));
@@ -14,7 +14,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,13 +22,11 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
         return proxy.initiate("AWS-Redshift-ClusterSubnetGroup::Read", proxyClient, model, callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
-            .makeServiceCall((awsRequest, sdkProxyClient) -> readResource(awsRequest, sdkProxyClient))
+            .makeServiceCall((awsRequest, sdkProxyClient) -> readResource(awsRequest, sdkProxyClient, logger))
             .handleError((awsRequest, exception, client, resourceModel, cxt) -> {
                 if (exception instanceof ClusterSubnetGroupNotFoundException) {
                     return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
@@ -48,7 +45,8 @@ public class ReadHandler extends BaseHandlerStd {
      */
     private DescribeClusterSubnetGroupsResponse readResource(
         final DescribeClusterSubnetGroupsRequest awsRequest,
-        final ProxyClient<RedshiftClient> proxyClient) {
+        final ProxyClient<RedshiftClient> proxyClient,
+        final Logger logger) {
         DescribeClusterSubnetGroupsResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
                 proxyClient.client()::describeClusterSubnetGroups);
 
@@ -0,0 +1,164 @@
+package software.amazon.redshift.clustersubnetgroup;
+
+import software.amazon.awssdk.awscore.AwsExecutionAttribute;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.redshift.model.DependentServiceRequestThrottlingException;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side pacing of the Redshift calls made within one handler container. The bucket lives as long as the
+ * container and is shared by the invocations it serves one after another, it does not coordinate with other
+ * containers or stacks. It smooths bursts such as a tight stabilization loop, and the rate halves on throttling
+ * and recovers additively while calls succeed, so a container that was throttled backs off for its next calls.
+ * Polling calls (Describe, Get, List) leave a reserve of the bucket to the calls that change resources. A call
+ * is held at most a few seconds, and that wait counts against the handler time.
+ */
+final class RequestRateLimiter implements ExecutionInterceptor {
+    // calls per second
+    static final double MAX_RATE = 10.0;
+    static final double MIN_RATE = 0.5;
+    static final double BURST = 10.0;
+    // share of the bucket polling calls cannot use
+    static final double MUTATING_RESERVE = 0.3;
+    static final double DECREASE_FACTOR = 0.5;
+    // roughly the calls per second regained over one second of successful calls
+    static final double ADDITIVE_INCREASE = 1.0;
+    // concurrent calls throttled together count as one congestion signal
+    static final Duration DECREASE_COOLDOWN = Duration.ofSeconds(1L);
+    // never hold a call longer than this, the service-side throttling and retries take over from there
+    static final Duration MAX_MUTATING_WAIT = Duration.ofSeconds(2L);
+    static final Duration MAX_POLLING_WAIT = Duration.ofSeconds(5L);
+
+    private static final ConcurrentMap<String, TokenBucket> BUCKETS = new ConcurrentHashMap<>();
+    private static final ExecutionAttribute<TokenBucket> BUCKET = new ExecutionAttribute<>("RedshiftRequestRateLimiterBucket");
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        final TokenBucket bucket = BUCKETS.computeIfAbsent(
+                String.valueOf(executionAttributes.getAttribute(AwsExecutionAttribute.AWS_REGION)),
+                region -> new TokenBucket(System::nanoTime));
+        executionAttributes.putAttribute(BUCKET, bucket);
+
+        final boolean polling = isPolling(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+        bucket.acquire(polling, polling ? MAX_POLLING_WAIT : MAX_MUTATING_WAIT);
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        final TokenBucket bucket = executionAttributes.getAttribute(BUCKET);
+        if (bucket != null) {
+            bucket.onSuccess();
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        final TokenBucket bucket = executionAttributes.getAttribute(BUCKET);
+        if (bucket != null && isThrottling(context.exception())) {
+            bucket.onThrottled();
+        }
+    }
+
+    static boolean isPolling(final String operationName) {
+        return operationName != null && (operationName.startsWith("Describe")
+                || operationName.startsWith("Get")
+                || operationName.startsWith("List"));
+    }
+
+    static boolean isThrottling(final Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DependentServiceRequestThrottlingException
+                    || cause instanceof AwsServiceException && ((AwsServiceException) cause).isThrottlingException()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static final class TokenBucket {
+        private final LongSupplier nanoClock;
+        private double rate = MAX_RATE;
+        private double tokens = BURST;
+        private long lastRefill;
+        private long lastDecrease;
+
+        TokenBucket(final LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            this.lastRefill = nanoClock.getAsLong();
+            this.lastDecrease = lastRefill - DECREASE_COOLDOWN.toNanos();
+        }
+
+        void acquire(final boolean polling, final Duration maxWait) {
+            final long deadline = nanoClock.getAsLong() + maxWait.toNanos();
+            long wait;
+            while ((wait = tryAcquire(polling)) > 0L) {
+                final long remaining = deadline - nanoClock.getAsLong();
+                if (remaining <= 0L) {
+                    forceAcquire();
+                    return;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(wait, remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    forceAcquire();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * @return 0 when a token was taken, otherwise the nanoseconds until one is expected to be available
+         */
+        synchronized long tryAcquire(final boolean polling) {
+            refill();
+            final double floor = polling ? BURST * MUTATING_RESERVE : 0.0;
+            if (tokens - 1.0 >= floor) {
+                tokens -= 1.0;
+                return 0L;
+            }
+            return (long) Math.ceil((floor + 1.0 - tokens) / rate * TimeUnit.SECONDS.toNanos(1L));
+        }
+
+        // a call that waited long enough goes out anyway, its debt delays the calls after it
+        synchronized void forceAcquire() {
+            refill();
+            tokens = Math.max(tokens - 1.0, -BURST);
+        }
+
+        synchronized void onSuccess() {
+            rate = Math.min(MAX_RATE, rate + ADDITIVE_INCREASE / rate);
+        }
+
+        synchronized void onThrottled() {
+            final long now = nanoClock.getAsLong();
+            if (now - lastDecrease < DECREASE_COOLDOWN.toNanos()) {
+                return;
+            }
+            refill();
+            rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+            tokens = Math.min(tokens, 0.0);
+            lastDecrease = now;
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+
+        private void refill() {
+            final long now = nanoClock.getAsLong();
+            tokens = Math.min(BURST, tokens + (now - lastRefill) * rate / TimeUnit.SECONDS.toNanos(1L));
+            lastRefill = now;
+        }
+    }
+}
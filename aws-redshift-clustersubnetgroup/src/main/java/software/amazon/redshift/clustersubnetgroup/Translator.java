@@ -1,25 +1,19 @@
 package software.amazon.redshift.clustersubnetgroup;
 
 import com.amazonaws.util.StringUtils;
-import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.CreateClusterSubnetGroupRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteClusterSubnetGroupRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterSubnetGroupsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeClusterSubnetGroupsResponse;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterSubnetGroupRequest;
 import software.amazon.awssdk.services.redshift.model.Subnet;
 import software.amazon.awssdk.services.redshift.model.Tag;
-import software.amazon.awssdk.services.redshift.model.TaggedResource;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Collection;
@@ -163,12 +157,6 @@ public class Translator {
         .collect(Collectors.toList());
   }
 
-  static DescribeTagsRequest describeTagsRequest(final String arn) {
-    return DescribeTagsRequest.builder()
-            .resourceName(arn)
-            .build();
-  }
-
   static Set<String> getTagsKeySet(final Collection<Tag> tags) {
     return tags.stream().map(tag -> tag.key()).collect(Collectors.toSet());
   }
@@ -195,11 +183,6 @@ public class Translator {
     return String.format("arn:%s:redshift:%s:%s:subnetgroup:%s", partition, request.getRegion(), request.getAwsAccountId(), subnetGroupName);
   }
 
-  static List<Tag> getTags(final String arn, final AmazonWebServicesClientProxy proxy, final ProxyClient<RedshiftClient> proxyClient) {
-    final DescribeTagsResponse response = proxy.injectCredentialsAndInvokeV2(Translator.describeTagsRequest(arn), proxyClient.client()::describeTags);
-    return response.taggedResources().stream().map(TaggedResource::tag).collect(Collectors.toList());
-  }
-
   private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
     return Optional.ofNullable(collection)
         .map(Collection::stream)
@@ -9,7 +9,6 @@ import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.ClusterSubnetGroupNotFoundException;
 import software.amazon.awssdk.services.redshift.model.ClusterSubnetQuotaExceededException;
 import software.amazon.awssdk.services.redshift.model.DependentServiceRequestThrottlingException;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidSubnetException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
 import software.amazon.awssdk.services.redshift.model.ModifyClusterSubnetGroupRequest;
@@ -36,7 +35,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -45,19 +43,24 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel model = request.getDesiredResourceState();
 
+        //Base on contract_update_non_existent_resource contract test
+        if (StringUtils.isNullOrEmpty(model.getClusterSubnetGroupName())) {
+            return ProgressEvent.defaultFailureHandler(
+                    new Exception("SubnetGroupName in update handler cannot be null"), HandlerErrorCode.NotFound);
+        }
+
+        if (isNoOpUpdate(request)) {
+            logger.log(String.format("%s %s is unchanged, skipping ModifyClusterSubnetGroup and tagging.",
+                    ResourceModel.TYPE_NAME, model.getClusterSubnetGroupName()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress -> proxy.initiate("AWS-Redshift-ClusterSubnetGroup::Update", proxyClient, model, callbackContext)
                         .translateToServiceRequest(Translator::translateToUpdateRequest)
                         .makeServiceCall((modifyRequest, proxyInvocation) -> {
-                            //Base on contract_update_non_existent_resource contract test
-                            if (StringUtils.isNullOrEmpty(model.getClusterSubnetGroupName())){
-                                return ProgressEvent.defaultFailureHandler(
-                                        new Exception("SubnetGroupName in update handler cannot be null"), HandlerErrorCode.NotFound);
-                            }
                             ModifyClusterSubnetGroupResponse response =  proxyInvocation.injectCredentialsAndInvokeV2(
                                     modifyRequest, proxyInvocation.client()::modifyClusterSubnetGroup);
                             logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
@@ -69,19 +72,20 @@ public class UpdateHandler extends BaseHandlerStd {
                                 return ProgressEvent.defaultFailureHandler(exception, HandlerErrorCode.NotFound);
                             throw exception;
                         })
-                        .progress())
-                .then(progress -> handleTagging(request, proxyClient, proxy, progress))
+                        // the modified subnet group carries its tags, no separate DescribeTags call is needed
+                        .done((modifyRequest, modifyResponse, client, resourceModel, cxt) ->
+                                handleTagging(request, modifyResponse.clusterSubnetGroup().tags(), proxyClient, proxy, ProgressEvent.progress(resourceModel, cxt))))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> handleTagging(
             ResourceHandlerRequest<ResourceModel> request,
+            final List<Tag> prevTags,
             final ProxyClient<RedshiftClient> proxyClient,
             final AmazonWebServicesClientProxy proxy,
             final ProgressEvent<ResourceModel, CallbackContext> progress) {
         try {
             final String arn = Translator.getArn(request);
-            final List<Tag> prevTags = Translator.getTags(arn, proxy, proxyClient);
             final List<Tag> currTags = Translator.translateTagsMapToTagCollection(request.getDesiredResourceTags());
             final Set<Tag> prevTagSet = CollectionUtils.isEmpty(prevTags) ? new HashSet<>() : new HashSet<>(prevTags);
             final Set<Tag> currTagSet = CollectionUtils.isEmpty(currTags) ? new HashSet<>() : new HashSet<>(currTags);
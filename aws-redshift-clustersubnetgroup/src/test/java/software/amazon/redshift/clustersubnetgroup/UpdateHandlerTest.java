@@ -22,10 +22,12 @@ import software.amazon.awssdk.services.redshift.model.ModifyClusterSubnetGroupRe
 import software.amazon.awssdk.services.redshift.model.Subnet;
 import software.amazon.awssdk.services.redshift.model.SubnetAlreadyInUseException;
 import software.amazon.awssdk.services.redshift.model.Tag;
+import software.amazon.awssdk.services.redshift.model.TaggedResource;
 import software.amazon.awssdk.services.redshift.model.UnauthorizedOperationException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -38,6 +40,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -95,9 +99,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .clusterSubnetGroup(BASIC_CLUSTER_SUBNET_GROUP)
                         .build());
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DESCRIBE_TAGS_RESPONSE);
-
         when(proxyClient.client().describeClusterSubnetGroups(any(DescribeClusterSubnetGroupsRequest.class)))
                 .thenReturn(DescribeClusterSubnetGroupsResponse.builder()
                         .clusterSubnetGroups(BASIC_CLUSTER_SUBNET_GROUP)
@@ -113,6 +114,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
 
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+        verify(proxyClient.client(), never()).createTags(any(CreateTagsRequest.class));
+        verify(proxyClient.client(), never()).deleteTags(any(DeleteTagsRequest.class));
     }
 
     @Test
@@ -130,12 +134,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().modifyClusterSubnetGroup(any(ModifyClusterSubnetGroupRequest.class)))
                 .thenReturn(ModifyClusterSubnetGroupResponse.builder()
-                        .clusterSubnetGroup(BASIC_CLUSTER_SUBNET_GROUP)
+                        .clusterSubnetGroup(BASIC_CLUSTER_SUBNET_GROUP.toBuilder()
+                                .tags(DESCRIBE_TAGS_RESPONSE_CREATING.taggedResources()
+                                        .stream()
+                                        .map(TaggedResource::tag)
+                                        .collect(Collectors.toList()))
+                                .build())
                         .build());
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class)))
-                .thenReturn(DESCRIBE_TAGS_RESPONSE_CREATING);
-
         when(proxyClient.client().describeClusterSubnetGroups(any(DescribeClusterSubnetGroupsRequest.class)))
                 .thenReturn(DescribeClusterSubnetGroupsResponse.builder()
                         .clusterSubnetGroups(BASIC_CLUSTER_SUBNET_GROUP)
@@ -158,5 +164,49 @@ public class UpdateHandlerTest extends AbstractTestBase {
         ArgumentCaptor<DeleteTagsRequest> deleteTagArgument = ArgumentCaptor.forClass(DeleteTagsRequest.class);
         verify(proxyClient.client()).deleteTags(deleteTagArgument.capture());
         assertEquals(DELETE_TAGS_REQUEST.tagKeys(), deleteTagArgument.getValue().tagKeys());
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_MissingSubnetGroupName() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BASIC_MODEL.toBuilder().clusterSubnetGroupName(null).build())
+                .region(AWS_REGION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(proxyClient.client(), never()).modifyClusterSubnetGroup(any(ModifyClusterSubnetGroupRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChanges() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(BASIC_MODEL)
+                // same subnets in a different order
+                .previousResourceState(BASIC_MODEL.toBuilder()
+                        .subnetIds(Arrays.asList("subnet-2", "subnet-1"))
+                        .build())
+                .region(AWS_REGION)
+                .awsAccountId(AWS_ACCOUNT_ID)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                .previousResourceTags(DESIRED_RESOURCE_TAGS)
+                .build();
+
+        when(proxyClient.client().describeClusterSubnetGroups(any(DescribeClusterSubnetGroupsRequest.class)))
+                .thenReturn(DescribeClusterSubnetGroupsResponse.builder()
+                        .clusterSubnetGroups(BASIC_CLUSTER_SUBNET_GROUP)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+        verify(proxyClient.client(), never()).modifyClusterSubnetGroup(any(ModifyClusterSubnetGroupRequest.class));
+        verify(proxyClient.client(), never()).createTags(any(CreateTagsRequest.class));
+        verify(proxyClient.client(), never()).deleteTags(any(DeleteTagsRequest.class));
     }
 }
@@ -7,4 +7,8 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // when the stalled call first hit an endpoint or cluster busy with another operation, bounds the wait and retry of that call
+    private long transientStateWaitStart = 0L;
+    // the call the wait above belongs to, another stalled call starts its own wait
+    private String transientStateWaitCall;
 }
@@ -30,7 +30,6 @@ import static software.amazon.redshift.endpointaccess.EndpointAccessStabilizers.
 
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
     private static final int MAX_ENDPOINT_NAME_LENGTH = 30;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -40,8 +39,6 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         ResourceModel resourceModel = prepareResourceModel(request);
 
         logResourceModelRequest(resourceModel, logger);
@@ -58,8 +55,11 @@ public class CreateHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToCreateRequest)
-                        .makeServiceCall(this::createEndpointAccess)
+                        .backoffDelay(EndpointAccessStabilizers.createDelay())
+                        .makeServiceCall((_awsRequest, _proxyClient) -> createEndpointAccess(_awsRequest, _proxyClient, logger))
                         .stabilize((_req, _resp, client, model, ctx) -> isEndpointActive(client, model, ctx))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                EndpointAccessStabilizers.isRetryableStateError(_request, _exception, _client, _model, _context, logger))
                         .progress())
                 .then(progress ->
                         new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
@@ -68,7 +68,8 @@ public class CreateHandler extends BaseHandlerStd {
 
     private CreateEndpointAccessResponse createEndpointAccess(
             @NonNull final CreateEndpointAccessRequest createRequest,
-            @NonNull final ProxyClient<RedshiftClient> proxyClient) {
+            @NonNull final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         CreateEndpointAccessResponse createResponse = null;
 
         logAPICall(createRequest, "CreateEndpointAccess", logger);
@@ -19,7 +19,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -28,8 +27,6 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         ResourceModel resourceModel = request.getDesiredResourceState();
 
         Validator.validateDeleteRequest(resourceModel, logger);
@@ -40,16 +37,20 @@ public class DeleteHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToDeleteRequest)
-                        .makeServiceCall(this::deleteEndpointAccess)
+                        .backoffDelay(EndpointAccessStabilizers.deleteDelay())
+                        .makeServiceCall((_awsRequest, _proxyClient) -> deleteEndpointAccess(_awsRequest, _proxyClient, logger))
                         .stabilize((_request, _response, client, model, ctx) ->
                                 EndpointAccessStabilizers.isEndpointDeleted(client, model, ctx))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                EndpointAccessStabilizers.isRetryableStateError(_request, _exception, _client, _model, _context, logger))
                         .done(response -> ProgressEvent.defaultSuccessHandler(null))
             );
     }
 
     private DeleteEndpointAccessResponse deleteEndpointAccess(
             @NonNull final DeleteEndpointAccessRequest deleteRequest,
-            @NonNull final ProxyClient<RedshiftClient> proxyClient) {
+            @NonNull final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
 
         DeleteEndpointAccessResponse response;
 
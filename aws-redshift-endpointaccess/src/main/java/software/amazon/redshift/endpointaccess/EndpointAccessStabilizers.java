@@ -1,49 +1,237 @@
 package software.amazon.redshift.endpointaccess;
 
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAccess;
 import software.amazon.awssdk.services.redshift.model.EndpointNotFoundException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.InvalidEndpointStateException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.delay.Blended;
+import software.amazon.cloudformation.proxy.delay.Constant;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Status driven stabilizers for the endpoint lifecycle:
+ * creating -> active <-> modifying, active -> deleting -> (gone), with failed as the dead end.
+ * A failed endpoint never recovers on its own, so it fails the operation right away instead of
+ * being polled until the handler times out.
+ */
 public class EndpointAccessStabilizers {
+    static final String STATUS_ACTIVE = "active";
+    static final String STATUS_CREATING = "creating";
+    static final String STATUS_MODIFYING = "modifying";
+    static final String STATUS_DELETING = "deleting";
+    private static final String CLUSTER_STATUS_AVAILABLE = "available";
+    // matches "failed" as well as more specific failure states
+    private static final String STATUS_FAILED = "failed";
+
+    // modifications only touch security groups and settle fast
+    static final Delay UPDATE_DELAY = Constant.of().delay(Duration.ofSeconds(10L)).timeout(Duration.ofMinutes(30L)).build();
+
+    static final Duration TRANSIENT_STATE_RETRY_BUDGET = Duration.ofMinutes(30L);
+    // an endpoint or a cluster leaves these on its own
+    private static final Set<String> RETRYABLE_ENDPOINT_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            STATUS_CREATING, STATUS_MODIFYING)));
+    private static final Set<String> RETRYABLE_CLUSTER_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "creating", "modifying", "rebooting", "renaming", "resizing", "resuming",
+            "rotating-keys", "updating-hsm", "cancelling-resize")));
+
     public static boolean isEndpointActive(final ProxyClient<RedshiftClient> proxyClient,
                                            ResourceModel model,
                                            CallbackContext cxt) {
+        return isEndpointActive(proxyClient, model, cxt, endpointAccess -> { });
+    }
 
-        DescribeEndpointAccessRequest request = DescribeEndpointAccessRequest.builder()
-                .endpointName(model.getEndpointName())
-                .build();
-
-        DescribeEndpointAccessResponse response;
-
+    /*
+    same as above, but hands every described endpoint to the listener so callers can build their
+    result from the last poll instead of describing the endpoint once more
+     */
+    public static boolean isEndpointActive(final ProxyClient<RedshiftClient> proxyClient,
+                                           ResourceModel model,
+                                           CallbackContext cxt,
+                                           Consumer<EndpointAccess> describeListener) {
+        final EndpointAccess endpointAccess;
         try {
-            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeEndpointAccess);
+            endpointAccess = describeEndpoint(proxyClient, model);
         } catch (EndpointNotFoundException e) {
+            // a freshly created endpoint can take a moment to become visible
             return false;
         }
 
-        if (response.endpointAccessList().isEmpty()) {
-            return false;
+        if (endpointAccess != null) {
+            describeListener.accept(endpointAccess);
         }
+        final String status = statusOf(endpointAccess);
 
-        return response.endpointAccessList().get(0).endpointStatus().equalsIgnoreCase("active");
+        if (STATUS_ACTIVE.equals(status)) {
+            return true;
+        }
+        if (STATUS_DELETING.equals(status) || isFailed(status)) {
+            // the endpoint won't become active anymore
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
+                    String.format("%s (status: %s)", model.getEndpointName(), status));
+        }
+        // creating, modifying, not listed yet, or a status we don't know which may still settle
+        return false;
     }
 
-
     public static boolean isEndpointDeleted(final ProxyClient<RedshiftClient> proxyClient,
                                             ResourceModel model,
                                             CallbackContext cxt) {
-        DescribeEndpointAccessRequest request = DescribeEndpointAccessRequest.builder()
-                .endpointName(model.getEndpointName())
-                .build();
-
+        final String status;
         try {
-            proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeEndpointAccess);
+            status = statusOf(describeEndpoint(proxyClient, model));
         } catch (EndpointNotFoundException e) {
             return true;
         }
 
+        if (status == null) {
+            return true;
+        }
+        if (isFailed(status)) {
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
+                    String.format("%s (status: %s)", model.getEndpointName(), status));
+        }
+        // deleting, or right after the delete call still active
         return false;
     }
+
+    /*
+    InvalidEndpointState and InvalidClusterState mostly mean another operation still holds the endpoint or
+    its cluster. Instead of failing the stack the proxy retries the call, paced by the backoff delay of the
+    chain, as long as a describe shows a status that settles on its own and the stalled call is within the budget.
+    An endpoint or cluster that is already back to active/available only gets a single retry, in case the
+    conflict cleared before the describe.
+     */
+    public static boolean isRetryableStateError(final Object awsRequest,
+                                                final Exception exception,
+                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                ResourceModel model,
+                                                CallbackContext cxt,
+                                                Logger logger) {
+        final boolean endpointBusy = isCausedBy(exception, InvalidEndpointStateException.class);
+        if (!endpointBusy && !isCausedBy(exception, InvalidClusterStateException.class)) {
+            return false;
+        }
+
+        final long now = System.currentTimeMillis();
+        final String stalledCall = stalledCallKey(awsRequest);
+        final boolean firstConflict = cxt.getTransientStateWaitStart() == 0L || !stalledCall.equals(cxt.getTransientStateWaitCall());
+        if (firstConflict) {
+            cxt.setTransientStateWaitStart(now);
+            cxt.setTransientStateWaitCall(stalledCall);
+        }
+        if (now - cxt.getTransientStateWaitStart() > TRANSIENT_STATE_RETRY_BUDGET.toMillis()) {
+            logger.log(String.format("Endpoint %s is still busy after %s, giving up.",
+                    model.getEndpointName(), TRANSIENT_STATE_RETRY_BUDGET));
+            return false;
+        }
+
+        final String status;
+        try {
+            status = endpointBusy
+                    ? statusOf(describeEndpoint(proxyClient, model))
+                    : describeClusterStatus(proxyClient, model);
+        } catch (EndpointNotFoundException | ClusterNotFoundException e) {
+            return false;
+        }
+
+        final boolean retryable = status != null
+                && ((endpointBusy ? RETRYABLE_ENDPOINT_STATUSES : RETRYABLE_CLUSTER_STATUSES).contains(status)
+                || firstConflict && (endpointBusy ? STATUS_ACTIVE : CLUSTER_STATUS_AVAILABLE).equals(status));
+        logger.log(String.format("%s of endpoint %s is in state %s, %s.", endpointBusy ? "Endpoint" : "Cluster",
+                model.getEndpointName(), status, retryable ? "retrying once it settles" : "not retrying"));
+        return retryable;
+    }
+
+    /*
+    identifies the stalled call, so the retry budget restarts for every other call of the operation
+     */
+    static String stalledCallKey(final Object awsRequest) {
+        return awsRequest == null ? "" : awsRequest.getClass().getSimpleName() + "#" + awsRequest.hashCode();
+    }
+
+    /*
+    handlers wrap service exceptions into Cfn exceptions, look through the cause chain
+     */
+    static boolean isCausedBy(final Throwable throwable, final Class<? extends Throwable> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describeClusterStatus(final ProxyClient<RedshiftClient> proxyClient, final ResourceModel model) {
+        DescribeClustersRequest request = DescribeClustersRequest.builder()
+                .clusterIdentifier(model.getClusterIdentifier())
+                .build();
+
+        return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeClusters)
+                .clusters()
+                .stream()
+                .findAny()
+                .map(Cluster::clusterStatus)
+                .map(String::toLowerCase)
+                .orElse(null);
+    }
+
+    private static boolean isFailed(final String status) {
+        return status != null && status.contains(STATUS_FAILED);
+    }
+
+    /*
+    returns the lower cased status, null when the endpoint isn't listed
+     */
+    static String statusOf(final EndpointAccess endpointAccess) {
+        if (endpointAccess == null || endpointAccess.endpointStatus() == null) {
+            return null;
+        }
+        return endpointAccess.endpointStatus().toLowerCase();
+    }
+
+    private static EndpointAccess describeEndpoint(final ProxyClient<RedshiftClient> proxyClient, final ResourceModel model) {
+        DescribeEndpointAccessRequest request = DescribeEndpointAccessRequest.builder()
+                .endpointName(model.getEndpointName())
+                .build();
+
+        DescribeEndpointAccessResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeEndpointAccess);
+
+        return response.endpointAccessList().isEmpty() ? null : response.endpointAccessList().get(0);
+    }
+
+    /*
+    the VPC endpoint behind a new Redshift-managed endpoint usually takes a few minutes to provision,
+    polling before that only spends describe calls
+     */
+    static Delay createDelay() {
+        return initialWaitThenPoll(Duration.ofSeconds(60L), Duration.ofSeconds(15L), Duration.ofMinutes(60L));
+    }
+
+    static Delay deleteDelay() {
+        return initialWaitThenPoll(Duration.ofSeconds(30L), Duration.ofSeconds(15L), Duration.ofMinutes(60L));
+    }
+
+    // Blended remembers which delay it is on, so every call chain gets its own instance
+    private static Delay initialWaitThenPoll(final Duration initialDelay, final Duration pollInterval, final Duration timeout) {
+        return Blended.of()
+                .add(Constant.of().delay(initialDelay).timeout(initialDelay).build())
+                .add(Constant.of().delay(pollInterval).timeout(timeout).build())
+                .build();
+    }
 }
@@ -14,7 +14,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,8 +21,6 @@ public class ReadHandler extends BaseHandlerStd {
             final CallbackContext callbackContext,
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
-        this.logger = logger;
-
         ResourceModel resourceModel = request.getDesiredResourceState();
 
         Validator.validateReadRequest(resourceModel, logger);
@@ -34,14 +31,15 @@ public class ReadHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadRequest)
-                        .makeServiceCall(this::readEndPoint)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> readEndPoint(_awsRequest, _proxyClient, logger))
                         .done(this::constructResourceModelFromResponse)
                 );
     }
 
     private DescribeEndpointAccessResponse readEndPoint(
             final DescribeEndpointAccessRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DescribeEndpointAccessResponse response = null;
 
         logAPICall(request, "DescribeEndpointAccess", logger);
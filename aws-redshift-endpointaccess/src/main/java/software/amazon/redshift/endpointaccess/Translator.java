@@ -2,9 +2,11 @@ package software.amazon.redshift.endpointaccess;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -63,32 +65,42 @@ public class Translator {
     static ResourceModel translateFromReadResponse(final DescribeEndpointAccessResponse response) {
         return response.endpointAccessList()
                 .stream()
-                .map(endpointAccess -> ResourceModel.builder()
-                        .clusterIdentifier(endpointAccess.clusterIdentifier())
-                        .resourceOwner(endpointAccess.resourceOwner())
-                        .endpointName(endpointAccess.endpointName())
-                        .subnetGroupName(endpointAccess.subnetGroupName())
-                        .vpcSecurityGroupIds(endpointAccess.vpcSecurityGroups()
-                                .stream()
-                                .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
-                                .collect(Collectors.toList()))
-                        .endpointStatus(endpointAccess.endpointStatus())
-                        .endpointCreateTime(endpointAccess.endpointCreateTime().toString())
-                        .port(endpointAccess.port())
-                        .address(endpointAccess.address())
-                        .vpcSecurityGroups(endpointAccess.vpcSecurityGroups()
-                                .stream()
-                                .map(vpcSecurityGroupMembership -> VpcSecurityGroup.builder()
-                                        .vpcSecurityGroupId(vpcSecurityGroupMembership.vpcSecurityGroupId())
-                                        .status(vpcSecurityGroupMembership.status())
-                                        .build())
-                                .collect(Collectors.toList()))
-                        .vpcEndpoint(translateToModelVpcEndpoint(endpointAccess.vpcEndpoint()))
-                        .build())
+                .map(Translator::translateFromEndpointAccess)
                 .findAny()
                 .orElse(ResourceModel.builder().build());
     }
 
+    /**
+     * Translates a single described endpoint into a resource model
+     *
+     * @param endpointAccess the endpoint as returned by DescribeEndpointAccess
+     * @return model resource model
+     */
+    static ResourceModel translateFromEndpointAccess(final EndpointAccess endpointAccess) {
+        return ResourceModel.builder()
+                .clusterIdentifier(endpointAccess.clusterIdentifier())
+                .resourceOwner(endpointAccess.resourceOwner())
+                .endpointName(endpointAccess.endpointName())
+                .subnetGroupName(endpointAccess.subnetGroupName())
+                .vpcSecurityGroupIds(endpointAccess.vpcSecurityGroups()
+                        .stream()
+                        .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
+                        .collect(Collectors.toList()))
+                .endpointStatus(endpointAccess.endpointStatus())
+                .endpointCreateTime(endpointAccess.endpointCreateTime().toString())
+                .port(endpointAccess.port())
+                .address(endpointAccess.address())
+                .vpcSecurityGroups(endpointAccess.vpcSecurityGroups()
+                        .stream()
+                        .map(vpcSecurityGroupMembership -> VpcSecurityGroup.builder()
+                                .vpcSecurityGroupId(vpcSecurityGroupMembership.vpcSecurityGroupId())
+                                .status(vpcSecurityGroupMembership.status())
+                                .build())
+                        .collect(Collectors.toList()))
+                .vpcEndpoint(translateToModelVpcEndpoint(endpointAccess.vpcEndpoint()))
+                .build();
+    }
+
     /**
      * Request to delete a resource
      *
@@ -114,6 +126,25 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Whether the endpoint already carries exactly the requested VPC security groups, in any order
+     *
+     * @param endpointAccess the endpoint as returned by DescribeEndpointAccess
+     * @param model resource model
+     * @return true when a ModifyEndpointAccess call would not change anything
+     */
+    static boolean vpcSecurityGroupIdsMatch(final EndpointAccess endpointAccess, final ResourceModel model) {
+        if (model.getVpcSecurityGroupIds() == null) {
+            return false;
+        }
+
+        final Set<String> currentIds = streamOfOrEmpty(endpointAccess.vpcSecurityGroups())
+                .map(VpcSecurityGroupMembership::vpcSecurityGroupId)
+                .collect(Collectors.toSet());
+
+        return currentIds.equals(new HashSet<>(model.getVpcSecurityGroupIds()));
+    }
+
     static ModifyEndpointAccessResponse translateToUpdateResponse(final DescribeEndpointAccessResponse describeEndpointAccessResponse) {
         return describeEndpointAccessResponse.endpointAccessList()
                 .stream()
@@ -5,6 +5,7 @@ import lombok.NonNull;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.EndpointAccess;
 import software.amazon.awssdk.services.redshift.model.EndpointNotFoundException;
 import software.amazon.awssdk.services.redshift.model.InvalidEndpointStateException;
 import software.amazon.awssdk.services.redshift.model.ModifyEndpointAccessRequest;
@@ -22,11 +23,13 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static software.amazon.redshift.endpointaccess.EndpointAccessStabilizers.STATUS_ACTIVE;
 import static software.amazon.redshift.endpointaccess.EndpointAccessStabilizers.isEndpointActive;
+import static software.amazon.redshift.endpointaccess.EndpointAccessStabilizers.statusOf;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -35,11 +38,21 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         ResourceModel resourceModel = request.getDesiredResourceState();
 
-        Validator.validateUpdateRequest(proxyClient, resourceModel, logger);
+        EndpointAccess currentEndpointAccess = Validator.validateUpdateRequest(proxyClient, resourceModel, logger);
+
+        // VpcSecurityGroupIds is the only updatable property, nothing to modify when it already matches
+        if (currentEndpointAccess != null
+                && STATUS_ACTIVE.equals(statusOf(currentEndpointAccess))
+                && Translator.vpcSecurityGroupIdsMatch(currentEndpointAccess, resourceModel)) {
+            logger.log(String.format("Endpoint %s already has the requested VPC security groups, skipping ModifyEndpointAccess",
+                    resourceModel.getEndpointName()));
+            return ProgressEvent.defaultSuccessHandler(Translator.translateFromEndpointAccess(currentEndpointAccess));
+        }
+
+        // the stabilizer describes the endpoint until it's active again, the last response becomes the result
+        AtomicReference<EndpointAccess> latestEndpointAccess = new AtomicReference<>();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> proxy.initiate(
@@ -48,16 +61,21 @@ public class UpdateHandler extends BaseHandlerStd {
                                 progress.getResourceModel(),
                                 progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToUpdateRequest)
-                        .makeServiceCall(this::modifyEndpointAccess)
-                        .stabilize((awsRequest, response, client, model, ctx) -> isEndpointActive(client, model, ctx))
-                        .progress())
-                .then(progress -> new ReadHandler()
-                        .handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                        .backoffDelay(EndpointAccessStabilizers.UPDATE_DELAY)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> modifyEndpointAccess(_awsRequest, _proxyClient, logger))
+                        .stabilize((awsRequest, response, client, model, ctx) ->
+                                isEndpointActive(client, model, ctx, latestEndpointAccess::set))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                EndpointAccessStabilizers.isRetryableStateError(_request, _exception, _client, _model, _context, logger))
+                        .done((awsRequest, response, client, model, ctx) -> latestEndpointAccess.get() == null
+                                ? new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
+                                : ProgressEvent.defaultSuccessHandler(Translator.translateFromEndpointAccess(latestEndpointAccess.get()))));
     }
 
     private ModifyEndpointAccessResponse modifyEndpointAccess(
             @NonNull final ModifyEndpointAccessRequest request,
-            @NonNull final ProxyClient<RedshiftClient> proxyClient) {
+            @NonNull final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         logAPICall(request, "ModifyEndpointAccess", logger);
 
         try {
@@ -80,9 +80,9 @@ public class Validator {
         }
     }
 
-    static void validateUpdateRequest(@NonNull ProxyClient<RedshiftClient> proxyClient,
-                                      @NonNull ResourceModel resourceModel,
-                                      @NonNull Logger logger) throws CfnInvalidRequestException {
+    static EndpointAccess validateUpdateRequest(@NonNull ProxyClient<RedshiftClient> proxyClient,
+                                                @NonNull ResourceModel resourceModel,
+                                                @NonNull Logger logger) throws CfnInvalidRequestException {
         /*
         1. Endpoint name should be defined (its the primary identifier)
         2. Endpoint should exist
@@ -95,6 +95,8 @@ public class Validator {
             - SubnetGroupName
             - ResourceOwner
             - ClusterIdentifier
+
+        The described endpoint is returned so the update can reuse it as its baseline.
         */
 
         logFieldsCheck(Arrays.asList("EndpointName"), resourceModel, "UPDATE", logger);
@@ -121,6 +123,7 @@ public class Validator {
 
         EndpointAccess endpointAccess = describeEndpointAccessResponse.endpointAccessList().get(0);
         validateCreateOnlyProperties(endpointAccess, resourceModel, logger);
+        return endpointAccess;
     }
 
     static void validateCreateOnlyProperties(@NonNull EndpointAccess endpointAccess,
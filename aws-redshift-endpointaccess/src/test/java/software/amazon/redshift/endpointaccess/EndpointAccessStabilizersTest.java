@@ -0,0 +1,184 @@
+package software.amazon.redshift.endpointaccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.DeleteEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAccess;
+import software.amazon.awssdk.services.redshift.model.EndpointNotFoundException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.InvalidEndpointStateException;
+import software.amazon.awssdk.services.redshift.model.ModifyEndpointAccessRequest;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EndpointAccessStabilizersTest extends AbstractTestBase {
+    private final ResourceModel model = ResourceModel.builder()
+            .endpointName("sample-endpoint-name")
+            .clusterIdentifier("sample-cluster")
+            .build();
+
+    private static final ModifyEndpointAccessRequest MODIFY_REQUEST = ModifyEndpointAccessRequest.builder()
+            .endpointName("endpoint")
+            .build();
+
+    private RedshiftClient sdkClient;
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @Test
+    public void isEndpointActive_FollowsLifecycle() {
+        mockStatus(EndpointAccessStabilizers.STATUS_CREATING);
+        assertFalse(EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+
+        mockStatus(EndpointAccessStabilizers.STATUS_MODIFYING);
+        assertFalse(EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+
+        mockStatus("Active");
+        assertTrue(EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void isEndpointActive_HandsDescribedEndpointToListener() {
+        final AtomicReference<EndpointAccess> latest = new AtomicReference<>();
+        mockStatus(EndpointAccessStabilizers.STATUS_ACTIVE);
+
+        assertTrue(EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext(), latest::set));
+        assertEquals(EndpointAccessStabilizers.STATUS_ACTIVE, latest.get().endpointStatus());
+    }
+
+    @Test
+    public void isEndpointActive_NotVisibleYet() {
+        when(sdkClient.describeEndpointAccess(any(DescribeEndpointAccessRequest.class)))
+                .thenThrow(EndpointNotFoundException.builder().build());
+
+        assertFalse(EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void isEndpointActive_FailsFastOnTerminalStatus() {
+        mockStatus("failed");
+        assertThrows(CfnNotStabilizedException.class,
+                () -> EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+
+        mockStatus(EndpointAccessStabilizers.STATUS_DELETING);
+        assertThrows(CfnNotStabilizedException.class,
+                () -> EndpointAccessStabilizers.isEndpointActive(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void isEndpointDeleted_FollowsLifecycle() {
+        mockStatus(EndpointAccessStabilizers.STATUS_ACTIVE);
+        assertFalse(EndpointAccessStabilizers.isEndpointDeleted(proxyClient, model, new CallbackContext()));
+
+        mockStatus(EndpointAccessStabilizers.STATUS_DELETING);
+        assertFalse(EndpointAccessStabilizers.isEndpointDeleted(proxyClient, model, new CallbackContext()));
+
+        when(sdkClient.describeEndpointAccess(any(DescribeEndpointAccessRequest.class)))
+                .thenReturn(DescribeEndpointAccessResponse.builder().build());
+        assertTrue(EndpointAccessStabilizers.isEndpointDeleted(proxyClient, model, new CallbackContext()));
+
+        when(sdkClient.describeEndpointAccess(any(DescribeEndpointAccessRequest.class)))
+                .thenThrow(EndpointNotFoundException.builder().build());
+        assertTrue(EndpointAccessStabilizers.isEndpointDeleted(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void isEndpointDeleted_FailsFastOnTerminalStatus() {
+        mockStatus("failed");
+
+        assertThrows(CfnNotStabilizedException.class,
+                () -> EndpointAccessStabilizers.isEndpointDeleted(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void isRetryableStateError_WaitsForBusyEndpoint() {
+        final CallbackContext context = new CallbackContext();
+        final Exception endpointBusy = new CfnResourceConflictException(ResourceModel.TYPE_NAME, model.getEndpointName(),
+                "Endpoint status must be active", InvalidEndpointStateException.builder().build());
+
+        mockStatus(EndpointAccessStabilizers.STATUS_MODIFYING);
+        assertTrue(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, endpointBusy, proxyClient, model, context, logger));
+        assertTrue(context.getTransientStateWaitStart() > 0L);
+
+        mockStatus("failed");
+        assertFalse(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, endpointBusy, proxyClient, model, context, logger));
+
+        assertFalse(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, new CfnInvalidRequestException("invalid"),
+                proxyClient, model, context, logger));
+    }
+
+    @Test
+    public void isRetryableStateError_RetriesActiveEndpointOnce() {
+        final CallbackContext context = new CallbackContext();
+        final Exception endpointBusy = new CfnResourceConflictException(ResourceModel.TYPE_NAME, model.getEndpointName(),
+                "Endpoint status must be active", InvalidEndpointStateException.builder().build());
+
+        // the conflict may have cleared before the describe, one more attempt
+        mockStatus(EndpointAccessStabilizers.STATUS_ACTIVE);
+        assertTrue(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, endpointBusy, proxyClient, model, context, logger));
+        // still rejected on an active endpoint, that is a real error
+        assertFalse(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, endpointBusy, proxyClient, model, context, logger));
+    }
+
+    @Test
+    public void isRetryableStateError_WaitsForBusyCluster() {
+        final CallbackContext context = new CallbackContext();
+        final Exception clusterBusy = new CfnGeneralServiceException(InvalidClusterStateException.builder().build());
+
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(Cluster.builder().clusterStatus("resizing").build())
+                        .build());
+        assertTrue(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, clusterBusy, proxyClient, model, context, logger));
+
+        // gives up once the budget of the stalled call is spent, without describing again
+        context.setTransientStateWaitStart(System.currentTimeMillis()
+                - EndpointAccessStabilizers.TRANSIENT_STATE_RETRY_BUDGET.plusMinutes(1L).toMillis());
+        assertFalse(EndpointAccessStabilizers.isRetryableStateError(MODIFY_REQUEST, clusterBusy, proxyClient, model, context, logger));
+
+        // another call that stalls later gets a budget of its own
+        assertTrue(EndpointAccessStabilizers.isRetryableStateError(DeleteEndpointAccessRequest.builder()
+                .endpointName(model.getEndpointName())
+                .build(), clusterBusy, proxyClient, model, context, logger));
+    }
+
+    private void mockStatus(final String status) {
+        when(sdkClient.describeEndpointAccess(any(DescribeEndpointAccessRequest.class)))
+                .thenReturn(DescribeEndpointAccessResponse.builder()
+                        .endpointAccessList(EndpointAccess.builder()
+                                .endpointName(model.getEndpointName())
+                                .endpointStatus(status)
+                                .build())
+                        .build());
+    }
+}
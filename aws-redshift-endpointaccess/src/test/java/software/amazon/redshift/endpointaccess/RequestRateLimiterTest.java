@@ -0,0 +1,89 @@
+package software.amazon.redshift.endpointaccess;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.redshift.model.DependentServiceRequestThrottlingException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.RedshiftException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class RequestRateLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void testPollingLeavesReserveForMutatingCalls() {
+        final RequestRateLimiter.TokenBucket bucket = new RequestRateLimiter.TokenBucket(clock::get);
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(bucket.tryAcquire(true)).isZero();
+        }
+        assertThat(bucket.tryAcquire(true)).isPositive();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(bucket.tryAcquire(false)).isZero();
+        }
+        // an empty bucket refills at 10 calls per second
+        assertThat(bucket.tryAcquire(false)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100L));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100L));
+        assertThat(bucket.tryAcquire(false)).isZero();
+    }
+
+    @Test
+    public void testAcquireStopsWaitingAtTheDeadline() {
+        final RequestRateLimiter.TokenBucket bucket = new RequestRateLimiter.TokenBucket(clock::get);
+        for (int i = 0; i < 10; i++) {
+            bucket.acquire(false, Duration.ZERO);
+        }
+
+        bucket.acquire(false, Duration.ZERO);
+        // the call that went out anyway is paid back before the next one
+        assertThat(bucket.tryAcquire(false)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200L));
+    }
+
+    @Test
+    public void testRateAdaptsToThrottling() {
+        final RequestRateLimiter.TokenBucket bucket = new RequestRateLimiter.TokenBucket(clock::get);
+
+        bucket.onThrottled();
+        assertThat(bucket.getRate()).isEqualTo(5.0);
+        // throttled together with the previous call
+        bucket.onThrottled();
+        assertThat(bucket.getRate()).isEqualTo(5.0);
+
+        clock.addAndGet(RequestRateLimiter.DECREASE_COOLDOWN.toNanos());
+        bucket.onThrottled();
+        assertThat(bucket.getRate()).isEqualTo(2.5);
+        bucket.onSuccess();
+        assertThat(bucket.getRate()).isCloseTo(2.9, within(1e-9));
+
+        for (int i = 0; i < 10; i++) {
+            clock.addAndGet(RequestRateLimiter.DECREASE_COOLDOWN.toNanos());
+            bucket.onThrottled();
+        }
+        assertThat(bucket.getRate()).isEqualTo(RequestRateLimiter.MIN_RATE);
+
+        for (int i = 0; i < 1000; i++) {
+            bucket.onSuccess();
+        }
+        assertThat(bucket.getRate()).isEqualTo(RequestRateLimiter.MAX_RATE);
+    }
+
+    @Test
+    public void testClassification() {
+        assertThat(RequestRateLimiter.isPolling("DescribeEndpointAccess")).isTrue();
+        assertThat(RequestRateLimiter.isPolling("CreateEndpointAccess")).isFalse();
+        assertThat(RequestRateLimiter.isPolling(null)).isFalse();
+
+        assertThat(RequestRateLimiter.isThrottling(DependentServiceRequestThrottlingException.builder().build())).isTrue();
+        assertThat(RequestRateLimiter.isThrottling(new RuntimeException(RedshiftException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("Throttling").build())
+                .build()))).isTrue();
+        assertThat(RequestRateLimiter.isThrottling(InvalidClusterStateException.builder().build())).isFalse();
+    }
+}
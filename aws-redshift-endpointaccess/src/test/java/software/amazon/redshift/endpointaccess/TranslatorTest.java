@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class TranslatorTest {
@@ -188,4 +190,21 @@ public class TranslatorTest {
 
         assertEquals(ResourceModel.builder().build(), Translator.translateFromReadResponse(response));
     }
+
+    @Test
+    public void testVpcSecurityGroupIdsMatch() {
+        EndpointAccess endpointAccess = EndpointAccess.builder()
+                .vpcSecurityGroups(
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-1").build(),
+                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-2").build())
+                .build();
+
+        assertTrue(Translator.vpcSecurityGroupIdsMatch(endpointAccess,
+                ResourceModel.builder().vpcSecurityGroupIds(Arrays.asList("sg-2", "sg-1")).build()));
+        assertFalse(Translator.vpcSecurityGroupIdsMatch(endpointAccess,
+                ResourceModel.builder().vpcSecurityGroupIds(Arrays.asList("sg-1", "sg-3")).build()));
+        assertFalse(Translator.vpcSecurityGroupIdsMatch(endpointAccess,
+                ResourceModel.builder().vpcSecurityGroupIds(Collections.singletonList("sg-1")).build()));
+        assertFalse(Translator.vpcSecurityGroupIdsMatch(endpointAccess, ResourceModel.builder().build()));
+    }
 }
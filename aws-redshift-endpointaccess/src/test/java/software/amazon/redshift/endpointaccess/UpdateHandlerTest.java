@@ -11,8 +11,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAccessResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAccess;
 import software.amazon.awssdk.services.redshift.model.ModifyEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.ModifyEndpointAccessResponse;
+import software.amazon.awssdk.services.redshift.model.VpcEndpoint;
+import software.amazon.awssdk.services.redshift.model.VpcSecurityGroupMembership;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,11 +23,15 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -78,7 +85,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                              Mockito.mockStatic(EndpointAccessStabilizers.class)) {
 
                     // Mock the interactions with the stabilizers
-                    mockedStabilizers.when(() -> EndpointAccessStabilizers.isEndpointActive(any(), any(), any()))
+                    mockedStabilizers.when(() -> EndpointAccessStabilizers.isEndpointActive(any(), any(), any(), any()))
                             .thenReturn(true);
 
                     when(proxyClient.client().modifyEndpointAccess(any(ModifyEndpointAccessRequest.class)))
@@ -101,4 +108,46 @@ public class UpdateHandlerTest extends AbstractTestBase {
             }
         }
     }
+
+    @Test
+    public void handleRequest_SecurityGroupsUnchanged() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .endpointName("endpoint-name")
+                .clusterIdentifier("cluster-id")
+                .vpcSecurityGroupIds(Arrays.asList("sg-2", "sg-1"))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().describeEndpointAccess(any(DescribeEndpointAccessRequest.class)))
+                .thenReturn(DescribeEndpointAccessResponse.builder()
+                        .endpointAccessList(EndpointAccess.builder()
+                                .endpointName("endpoint-name")
+                                .clusterIdentifier("cluster-id")
+                                .endpointStatus("active")
+                                .endpointCreateTime(Instant.now())
+                                .vpcSecurityGroups(
+                                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-1").status("active").build(),
+                                        VpcSecurityGroupMembership.builder().vpcSecurityGroupId("sg-2").status("active").build())
+                                .vpcEndpoint(VpcEndpoint.builder().build())
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getVpcSecurityGroupIds()).containsExactlyInAnyOrder("sg-1", "sg-2");
+        assertThat(response.getResourceModel().getEndpointStatus()).isEqualTo("active");
+
+        // the validator's describe is the only call, no modify and no read afterwards
+        verify(sdkClient, times(1)).describeEndpointAccess(any(DescribeEndpointAccessRequest.class));
+        verify(sdkClient, never()).modifyEndpointAccess(any(ModifyEndpointAccessRequest.class));
+    }
 }
@@ -8,6 +8,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     @Override
@@ -39,4 +43,23 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
                 request
         ));
     }
+
+    /*
+    true when the grant doesn't change. VpcIds is compared as a set, Force only matters for the revoke
+    on delete and the other properties are reported by the service.
+     */
+    protected static boolean isNoOpUpdate(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel desired = request.getDesiredResourceState();
+        final ResourceModel previous = request.getPreviousResourceState();
+        return desired != null && previous != null
+                && Objects.equals(desired.getClusterIdentifier(), previous.getClusterIdentifier())
+                && Objects.equals(desired.getAccount(), previous.getAccount())
+                && sameElements(desired.getVpcIds(), previous.getVpcIds());
+    }
+
+    protected static <T> boolean sameElements(final Collection<T> first, final Collection<T> second) {
+        // a missing list and an empty one both leave the property unset
+        return (first == null ? new HashSet<T>() : new HashSet<>(first))
+                .equals(second == null ? new HashSet<T>() : new HashSet<>(second));
+    }
 }
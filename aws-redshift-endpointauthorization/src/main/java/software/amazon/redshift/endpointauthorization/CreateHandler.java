@@ -25,7 +25,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -34,8 +33,6 @@ public class CreateHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         ResourceModel resourceModel = request.getDesiredResourceState();
         parseResourceModel(resourceModel);
 
@@ -46,7 +43,13 @@ public class CreateHandler extends BaseHandlerStd {
                                 progress.getResourceModel(),
                                 progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createEndpointAuthorization)
+                                .backoffDelay(EndpointAuthorizationStabilizers.AUTHORIZE_DELAY)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> createEndpointAuthorization(_awsRequest, _proxyClient, logger))
+                                // endpoints for this grant can only be created once it reads Authorized
+                                .stabilize((awsRequest, awsResponse, client, model, context) ->
+                                        EndpointAuthorizationStabilizers.isAuthorized(client, model, context))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                        EndpointAuthorizationStabilizers.isRetryableAuthorizationStateError(_request, _exception, _client, _model, _context, logger))
                                 .progress())
         .then(progress ->
                 new ReadHandler().handleRequest(proxy, request, progress.getCallbackContext(), proxyClient, logger)
@@ -56,7 +59,8 @@ public class CreateHandler extends BaseHandlerStd {
     @VisibleForTesting
     AuthorizeEndpointAccessResponse createEndpointAuthorization(
             final AuthorizeEndpointAccessRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         AuthorizeEndpointAccessResponse response = null;
 
         // Validate that the account is not null
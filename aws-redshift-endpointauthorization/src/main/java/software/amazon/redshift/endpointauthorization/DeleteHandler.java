@@ -20,7 +20,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -29,8 +28,6 @@ public class DeleteHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> proxy.initiate(
                             "AWS-Redshift-EndpointAuthorization::Delete",
@@ -38,7 +35,13 @@ public class DeleteHandler extends BaseHandlerStd {
                             progress.getResourceModel(),
                             progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToRevokeRequest)
-                        .makeServiceCall(this::revokeEndpointAccess)
+                        .backoffDelay(EndpointAuthorizationStabilizers.REVOKE_DELAY)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> revokeEndpointAccess(_awsRequest, _proxyClient, logger))
+                        // a forced revoke stays in Revoking until the grantee's endpoints are gone
+                        .stabilize((awsRequest, awsResponse, client, model, context) ->
+                                EndpointAuthorizationStabilizers.isRevoked(client, model, context))
+                        .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                EndpointAuthorizationStabilizers.isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
                         .done(response -> ProgressEvent.defaultSuccessHandler(null))
                 );
     }
@@ -46,7 +49,8 @@ public class DeleteHandler extends BaseHandlerStd {
     @VisibleForTesting
     RevokeEndpointAccessResponse revokeEndpointAccess(
             final RevokeEndpointAccessRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         RevokeEndpointAccessResponse response;
 
         // Validate that the account is not null
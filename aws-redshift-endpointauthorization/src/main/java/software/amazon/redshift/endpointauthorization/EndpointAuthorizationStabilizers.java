@@ -0,0 +1,230 @@
+package software.amazon.redshift.endpointauthorization;
+
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorizationNotFoundException;
+import software.amazon.awssdk.services.redshift.model.InvalidAuthorizationStateException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.delay.CappedExponential;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Status driven stabilizers for the authorization lifecycle: Authorized -> Revoking -> (gone).
+ * Endpoints in the grantee account can only be created once the grant reads Authorized, and a forced
+ * revoke keeps the grant in Revoking until those endpoints are removed.
+ */
+public class EndpointAuthorizationStabilizers {
+    /*
+    a grant usually settles within seconds, a forced revoke waits for the grantee's endpoints to be deleted
+    which takes minutes. Start polling quickly and back off towards the slow case.
+     */
+    static final Delay AUTHORIZE_DELAY = CappedExponential.of()
+            .minDelay(Duration.ofSeconds(2L))
+            .maxDelay(Duration.ofSeconds(30L))
+            .timeout(Duration.ofMinutes(30L))
+            .build();
+    static final Delay REVOKE_DELAY = CappedExponential.of()
+            .minDelay(Duration.ofSeconds(5L))
+            .maxDelay(Duration.ofSeconds(60L))
+            .timeout(Duration.ofMinutes(60L))
+            .build();
+
+    static final Duration TRANSIENT_STATE_RETRY_BUDGET = Duration.ofMinutes(30L);
+    private static final String CLUSTER_STATUS_AVAILABLE = "available";
+    // a cluster leaves these on its own
+    private static final Set<String> RETRYABLE_CLUSTER_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "creating", "modifying", "rebooting", "renaming", "resizing", "resuming",
+            "rotating-keys", "updating-hsm", "cancelling-resize")));
+
+    static boolean isAuthorized(final ProxyClient<RedshiftClient> proxyClient,
+                                final ResourceModel model,
+                                final CallbackContext cxt) {
+        final EndpointAuthorization endpointAuthorization;
+        try {
+            endpointAuthorization = describeAuthorization(proxyClient, model);
+        } catch (EndpointAuthorizationNotFoundException e) {
+            // the grant may not be visible right after the authorize call
+            return false;
+        }
+
+        if (endpointAuthorization == null) {
+            return false;
+        }
+        if (endpointAuthorization.status() == AuthorizationStatus.AUTHORIZED) {
+            return true;
+        }
+        if (endpointAuthorization.status() == AuthorizationStatus.REVOKING) {
+            // someone revoked the grant while we were waiting, it won't become authorized anymore
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME,
+                    String.format("%s|%s (status: %s)", model.getClusterIdentifier(), model.getAccount(),
+                            endpointAuthorization.statusAsString()));
+        }
+        return false;
+    }
+
+    static boolean isRevoked(final ProxyClient<RedshiftClient> proxyClient,
+                             final ResourceModel model,
+                             final CallbackContext cxt) {
+        try {
+            // still listed while Revoking, or right after the revoke call
+            return describeAuthorization(proxyClient, model) == null;
+        } catch (EndpointAuthorizationNotFoundException | ClusterNotFoundException e) {
+            return true;
+        }
+    }
+
+    /*
+    InvalidClusterState mostly means another operation still holds the cluster. Instead of failing the stack
+    the proxy retries the call, paced by the backoff delay of the chain, as long as a describe shows a status
+    the cluster leaves on its own and the stalled call is within the budget. A cluster that is already back to
+    available only gets a single retry, in case the conflict cleared before the describe.
+     */
+    static boolean isRetryableClusterStateError(final Object awsRequest,
+                                                final Exception exception,
+                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                final ResourceModel model,
+                                                final CallbackContext cxt,
+                                                final Logger logger) {
+        if (!isCausedBy(exception, InvalidClusterStateException.class)) {
+            return false;
+        }
+        final boolean firstConflict = startWait(awsRequest, cxt);
+        if (isRetryBudgetSpent(model, cxt, logger)) {
+            return false;
+        }
+
+        final String clusterStatus;
+        try {
+            clusterStatus = describeClusterStatus(proxyClient, model);
+        } catch (ClusterNotFoundException e) {
+            return false;
+        }
+
+        final boolean retryable = clusterStatus != null && (RETRYABLE_CLUSTER_STATUSES.contains(clusterStatus)
+                || firstConflict && CLUSTER_STATUS_AVAILABLE.equals(clusterStatus));
+        logger.log(String.format("Cluster %s is in state %s, %s.", model.getClusterIdentifier(), clusterStatus,
+                retryable ? "retrying once it settles" : "not retrying"));
+        return retryable;
+    }
+
+    /*
+    same as above, and additionally waits out InvalidAuthorizationState while a previous grant for the account
+    is still Revoking, authorizing again succeeds once it is gone. Not used on delete where Revoking already
+    means the revoke is under way.
+     */
+    static boolean isRetryableAuthorizationStateError(final Object awsRequest,
+                                                      final Exception exception,
+                                                      final ProxyClient<RedshiftClient> proxyClient,
+                                                      final ResourceModel model,
+                                                      final CallbackContext cxt,
+                                                      final Logger logger) {
+        if (!isCausedBy(exception, InvalidAuthorizationStateException.class)) {
+            return isRetryableClusterStateError(awsRequest, exception, proxyClient, model, cxt, logger);
+        }
+        startWait(awsRequest, cxt);
+        if (isRetryBudgetSpent(model, cxt, logger)) {
+            return false;
+        }
+
+        final EndpointAuthorization endpointAuthorization;
+        try {
+            endpointAuthorization = describeAuthorization(proxyClient, model);
+        } catch (EndpointAuthorizationNotFoundException | ClusterNotFoundException e) {
+            return false;
+        }
+
+        final boolean retryable = endpointAuthorization != null
+                && endpointAuthorization.status() == AuthorizationStatus.REVOKING;
+        logger.log(String.format("Authorization %s|%s is in state %s, %s.", model.getClusterIdentifier(), model.getAccount(),
+                endpointAuthorization == null ? null : endpointAuthorization.statusAsString(),
+                retryable ? "retrying once it settles" : "not retrying"));
+        return retryable;
+    }
+
+    /*
+    starts the wait of the stalled call unless it is already waiting, the budget covers one stalled call
+    rather than the whole operation. Returns true when this is the call's first conflict.
+     */
+    private static boolean startWait(final Object awsRequest, final CallbackContext cxt) {
+        final String stalledCall = stalledCallKey(awsRequest);
+        if (cxt.getTransientStateWaitStart() != 0L && stalledCall.equals(cxt.getTransientStateWaitCall())) {
+            return false;
+        }
+        cxt.setTransientStateWaitStart(System.currentTimeMillis());
+        cxt.setTransientStateWaitCall(stalledCall);
+        return true;
+    }
+
+    /*
+    identifies the stalled call, so the retry budget restarts for every other call of the operation
+     */
+    static String stalledCallKey(final Object awsRequest) {
+        return awsRequest == null ? "" : awsRequest.getClass().getSimpleName() + "#" + awsRequest.hashCode();
+    }
+
+    private static boolean isRetryBudgetSpent(final ResourceModel model, final CallbackContext cxt, final Logger logger) {
+        if (System.currentTimeMillis() - cxt.getTransientStateWaitStart() > TRANSIENT_STATE_RETRY_BUDGET.toMillis()) {
+            logger.log(String.format("Authorization %s|%s is still blocked after %s, giving up.",
+                    model.getClusterIdentifier(), model.getAccount(), TRANSIENT_STATE_RETRY_BUDGET));
+            return true;
+        }
+        return false;
+    }
+
+    /*
+    handlers wrap service exceptions into Cfn exceptions, look through the cause chain
+     */
+    static boolean isCausedBy(final Throwable throwable, final Class<? extends Throwable> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describeClusterStatus(final ProxyClient<RedshiftClient> proxyClient, final ResourceModel model) {
+        DescribeClustersRequest request = DescribeClustersRequest.builder()
+                .clusterIdentifier(model.getClusterIdentifier())
+                .build();
+
+        return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::describeClusters)
+                .clusters()
+                .stream()
+                .findAny()
+                .map(Cluster::clusterStatus)
+                .map(String::toLowerCase)
+                .orElse(null);
+    }
+
+    /*
+    returns the authorization, null when it isn't listed
+     */
+    private static EndpointAuthorization describeAuthorization(final ProxyClient<RedshiftClient> proxyClient,
+                                                               final ResourceModel model) {
+        DescribeEndpointAuthorizationRequest request = DescribeEndpointAuthorizationRequest.builder()
+                .clusterIdentifier(model.getClusterIdentifier())
+                .account(model.getAccount())
+                .build();
+
+        DescribeEndpointAuthorizationResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                request, proxyClient.client()::describeEndpointAuthorization);
+
+        return response.endpointAuthorizationList().isEmpty() ? null : response.endpointAuthorizationList().get(0);
+    }
+}
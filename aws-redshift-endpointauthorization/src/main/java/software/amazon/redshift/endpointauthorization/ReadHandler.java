@@ -14,7 +14,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -23,8 +22,6 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress -> proxy.initiate(
                         "AWS-Redshift-EndpointAuthorization::Read",
@@ -32,7 +29,7 @@ public class ReadHandler extends BaseHandlerStd {
                         progress.getResourceModel(),
                         progress.getCallbackContext())
                         .translateToServiceRequest(Translator::translateToReadRequest)
-                        .makeServiceCall(this::readEndpointAuthorization)
+                        .makeServiceCall((_awsRequest, _proxyClient) -> readEndpointAuthorization(_awsRequest, _proxyClient, logger))
                         .done(this::constructResourceModelFromResponse)
                 );
     }
@@ -40,7 +37,8 @@ public class ReadHandler extends BaseHandlerStd {
     @VisibleForTesting
     DescribeEndpointAuthorizationResponse readEndpointAuthorization(
             final DescribeEndpointAuthorizationRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
         DescribeEndpointAuthorizationResponse response = null;
 
         try {
@@ -2,10 +2,12 @@ package software.amazon.redshift.endpointauthorization;
 
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
 import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
 import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -55,12 +57,16 @@ public class Translator {
 
     /**
      * Translates resource model into an AuthorizeEndpointAccess request, for the update use case
+     *
+     * @param model resource model
+     * @param existingVpcIds the VPC ids currently allowed by the authorization
+     * @return the request, or null when there is nothing to authorize
      */
     static AuthorizeEndpointAccessRequest translateToUpdateAuthorizeRequest(
             final ResourceModel model,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final List<String> existingVpcIds) {
 
-        List<String> vpcIdsToAdd = getVpcIdsToAdd(model, proxyClient);
+        List<String> vpcIdsToAdd = getVpcIdsToAdd(model, existingVpcIds);
 
         // If we returned null, then we should skip this step
         if (vpcIdsToAdd == null) {
@@ -75,10 +81,17 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Translates resource model into a RevokeEndpointAccess request, for the update use case
+     *
+     * @param model resource model
+     * @param existingVpcIds the VPC ids currently allowed by the authorization
+     * @return the request, or null when there is nothing to revoke
+     */
     static RevokeEndpointAccessRequest translateToUpdateRevokeRequest(
             final ResourceModel model,
-            final ProxyClient<RedshiftClient> proxyClient) {
-        List<String> vpcIdsToRemove = getVpcIdsToRemove(model, proxyClient);
+            final List<String> existingVpcIds) {
+        List<String> vpcIdsToRemove = getVpcIdsToRemove(model, existingVpcIds);
 
         // Skip this step if we returned null
         if (vpcIdsToRemove == null) {
@@ -93,14 +106,7 @@ public class Translator {
     }
 
 
-    static List<String> getVpcIdsToAdd(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
-        // Get the list of existing VPC Ids in the Authorization
-        List<String> existingVpcIds = getExistingVpcIds(
-                model.getAccount(),
-                model.getClusterIdentifier(),
-                proxyClient
-        );
-
+    static List<String> getVpcIdsToAdd(ResourceModel model, List<String> existingVpcIds) {
         List<String> vpcIdsInUpdateRequest = model.getVpcIds() == null ? Collections.emptyList() : model.getVpcIds();
 
         // If there are no current VPC ids specified in the authorization, this means all VPCs are authorized
@@ -133,12 +139,7 @@ public class Translator {
         return vpcIdsToSend;
     }
 
-    static List<String> getVpcIdsToRemove(ResourceModel model, ProxyClient<RedshiftClient> proxyClient) {
-        List<String> existingVpcIds = getExistingVpcIds(
-                model.getAccount(),
-                model.getClusterIdentifier(),
-                proxyClient
-        );
+    static List<String> getVpcIdsToRemove(ResourceModel model, List<String> existingVpcIds) {
         List<String> vpcIdsInUpdateRequest = model.getVpcIds() == null ? Collections.emptyList() : model.getVpcIds();
 
         // This means that we are trying to authorize specific after doing an authorize all - not allowed
@@ -177,6 +178,12 @@ public class Translator {
     static List<String> getExistingVpcIds(final String accountId,
                                           final String clusterId,
                                           final ProxyClient<RedshiftClient> proxyClient) {
+        return getExistingAuthorization(accountId, clusterId, proxyClient).allowedVPCs();
+    }
+
+    static EndpointAuthorization getExistingAuthorization(final String accountId,
+                                                          final String clusterId,
+                                                          final ProxyClient<RedshiftClient> proxyClient) {
         // Make a call to check the existing VPC ids that exist for the auth. Remove the ones that already
         // exist before making the API call, otherwise we get an error saying vpc id already exists.
         DescribeEndpointAuthorizationRequest describeRequest = DescribeEndpointAuthorizationRequest.builder()
@@ -196,7 +203,7 @@ public class Translator {
             throw new CfnNotFoundException(ResourceModel.TYPE_NAME, String.format("%s|%s", clusterId, accountId));
         }
 
-        return endpointAuthorizationList.get(0).allowedVPCs();
+        return endpointAuthorizationList.get(0);
     }
 
     /**
@@ -208,23 +215,64 @@ public class Translator {
     static ResourceModel translateFromReadResponse(final DescribeEndpointAuthorizationResponse response) {
         return response.endpointAuthorizationList()
                 .stream()
-                .map(endpointAuthorization -> ResourceModel.builder()
-                        .grantor(endpointAuthorization.grantor())
-                        .grantee(endpointAuthorization.grantee())
-                        .clusterIdentifier(endpointAuthorization.clusterIdentifier())
-                        .authorizeTime(endpointAuthorization.authorizeTime().toString())
-                        .clusterStatus(endpointAuthorization.clusterStatus())
-                        .status(endpointAuthorization.statusAsString())
-                        .allowedAllVPCs(endpointAuthorization.allowedAllVPCs())
-                        .allowedVPCs(endpointAuthorization.allowedVPCs())
-                        .endpointCount(endpointAuthorization.endpointCount())
-                        .account(endpointAuthorization.grantee())
-                        .vpcIds(endpointAuthorization.allowedVPCs())
-                        .build())
+                .map(Translator::translateFromAuthorization)
                 .findAny()
                 .orElse(ResourceModel.builder().build());
     }
 
+    /**
+     * Translates a single authorization into a resource model
+     *
+     * @param endpointAuthorization the authorization as described, or as returned by an authorize/revoke call
+     * @return model resource model
+     */
+    static ResourceModel translateFromAuthorization(final EndpointAuthorization endpointAuthorization) {
+        return ResourceModel.builder()
+                .grantor(endpointAuthorization.grantor())
+                .grantee(endpointAuthorization.grantee())
+                .clusterIdentifier(endpointAuthorization.clusterIdentifier())
+                .authorizeTime(endpointAuthorization.authorizeTime().toString())
+                .clusterStatus(endpointAuthorization.clusterStatus())
+                .status(endpointAuthorization.statusAsString())
+                .allowedAllVPCs(endpointAuthorization.allowedAllVPCs())
+                .allowedVPCs(endpointAuthorization.allowedVPCs())
+                .endpointCount(endpointAuthorization.endpointCount())
+                .account(endpointAuthorization.grantee())
+                .vpcIds(endpointAuthorization.allowedVPCs())
+                .build();
+    }
+
+    /**
+     * Authorize and revoke return the authorization as it is after the call, which saves describing it again
+     */
+    static EndpointAuthorization translateToEndpointAuthorization(final AuthorizeEndpointAccessResponse response) {
+        return EndpointAuthorization.builder()
+                .grantor(response.grantor())
+                .grantee(response.grantee())
+                .clusterIdentifier(response.clusterIdentifier())
+                .authorizeTime(response.authorizeTime())
+                .clusterStatus(response.clusterStatus())
+                .status(response.statusAsString())
+                .allowedAllVPCs(response.allowedAllVPCs())
+                .allowedVPCs(response.allowedVPCs())
+                .endpointCount(response.endpointCount())
+                .build();
+    }
+
+    static EndpointAuthorization translateToEndpointAuthorization(final RevokeEndpointAccessResponse response) {
+        return EndpointAuthorization.builder()
+                .grantor(response.grantor())
+                .grantee(response.grantee())
+                .clusterIdentifier(response.clusterIdentifier())
+                .authorizeTime(response.authorizeTime())
+                .clusterStatus(response.clusterStatus())
+                .status(response.statusAsString())
+                .allowedAllVPCs(response.allowedAllVPCs())
+                .allowedVPCs(response.allowedVPCs())
+                .endpointCount(response.endpointCount())
+                .build();
+    }
+
     /**
      * Request to update some other properties that could not be provisioned through first update request
      *
@@ -7,6 +7,7 @@ import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessResponse;
 import software.amazon.awssdk.services.redshift.model.ClusterNotFoundException;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
 import software.amazon.awssdk.services.redshift.model.EndpointAuthorizationAlreadyExistsException;
 import software.amazon.awssdk.services.redshift.model.EndpointAuthorizationsPerClusterLimitExceededException;
 import software.amazon.awssdk.services.redshift.model.InvalidAuthorizationStateException;
@@ -24,8 +25,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -34,8 +37,6 @@ public class UpdateHandler extends BaseHandlerStd {
         final ProxyClient<RedshiftClient> proxyClient,
         final Logger logger) {
 
-        this.logger = logger;
-
         ResourceModel resourceModel = request.getDesiredResourceState();
         /*
             If the update request has a list of VPCs...
@@ -49,34 +50,65 @@ public class UpdateHandler extends BaseHandlerStd {
          */
         // This should do its own logic. The create handler will throw a resource already exists
         // exception when trying to call itself on something that already exists.
+
+        if (isNoOpUpdate(request)) {
+            logger.log(String.format("%s %s|%s is unchanged, skipping authorize and revoke.",
+                    ResourceModel.TYPE_NAME, resourceModel.getClusterIdentifier(), resourceModel.getAccount()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
+        // Describe the authorization once, both VPC diffs and the returned model are based on this snapshot
+        EndpointAuthorization existingAuthorization = Translator.getExistingAuthorization(
+                resourceModel.getAccount(),
+                resourceModel.getClusterIdentifier(),
+                proxyClient
+        );
+        List<String> existingVpcIds = existingAuthorization.allowedVPCs();
+
+        AuthorizeEndpointAccessRequest authorizeRequest =
+                Translator.translateToUpdateAuthorizeRequest(resourceModel, existingVpcIds);
+        RevokeEndpointAccessRequest revokeRequest =
+                Translator.translateToUpdateRevokeRequest(resourceModel, existingVpcIds);
+
+        // authorize and revoke both return the resulting authorization, the last one seen becomes the read result
+        AtomicReference<EndpointAuthorization> latestAuthorization = new AtomicReference<>(existingAuthorization);
+
         return ProgressEvent.progress(resourceModel, callbackContext)
-                .then(progress ->
+                .then(progress -> authorizeRequest == null ? progress :
                         proxy.initiate("AWS-Redshift-EndpointAuthorization::Create",
                                 proxyClient,
                                 progress.getResourceModel(),
                                 progress.getCallbackContext())
-                                .translateToServiceRequest((model) ->
-                                        Translator.translateToUpdateAuthorizeRequest(model, proxyClient))
-                                .makeServiceCall(this::authorizeEndpointAccess)
-                                .progress())
-                .then(progress ->
+                                .translateToServiceRequest((model) -> authorizeRequest)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> authorizeEndpointAccess(_awsRequest, _proxyClient, logger))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                        EndpointAuthorizationStabilizers.isRetryableAuthorizationStateError(_request, _exception, _client, _model, _context, logger))
+                                .done((awsRequest, awsResponse, client, model, context) -> {
+                                    latestAuthorization.set(Translator.translateToEndpointAuthorization(awsResponse));
+                                    return ProgressEvent.progress(model, context);
+                                }))
+                .then(progress -> revokeRequest == null ? progress :
                         proxy.initiate("AWS-Redshift-EndpointAuthorization::Delete",
                                 proxyClient,
                                 progress.getResourceModel(),
                                 progress.getCallbackContext())
-                                .translateToServiceRequest((model) ->
-                                        Translator.translateToUpdateRevokeRequest(model, proxyClient))
-                                .makeServiceCall(this::revokeEndpointAuthorization)
-                                .progress())
-                .then(progress ->
-                        new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
-                );
+                                .translateToServiceRequest((model) -> revokeRequest)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> revokeEndpointAuthorization(_awsRequest, _proxyClient, logger))
+                                .retryErrorFilter((_request, _exception, _client, _model, _context) ->
+                                        EndpointAuthorizationStabilizers.isRetryableClusterStateError(_request, _exception, _client, _model, _context, logger))
+                                .done((awsRequest, awsResponse, client, model, context) -> {
+                                    latestAuthorization.set(Translator.translateToEndpointAuthorization(awsResponse));
+                                    return ProgressEvent.progress(model, context);
+                                }))
+                .then(progress -> ProgressEvent.defaultSuccessHandler(
+                        Translator.translateFromAuthorization(latestAuthorization.get())));
     }
 
     @VisibleForTesting
     AuthorizeEndpointAccessResponse authorizeEndpointAccess(
             final AuthorizeEndpointAccessRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
 
         if (request == null) {
             return null;
@@ -111,7 +143,8 @@ public class UpdateHandler extends BaseHandlerStd {
     @VisibleForTesting
     RevokeEndpointAccessResponse revokeEndpointAuthorization(
             final RevokeEndpointAccessRequest request,
-            final ProxyClient<RedshiftClient> proxyClient) {
+            final ProxyClient<RedshiftClient> proxyClient,
+            final Logger logger) {
 
         if (request == null) {
             return null;
@@ -2,6 +2,7 @@ package software.amazon.redshift.endpointauthorization;
 
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
@@ -26,7 +27,9 @@ public class Validator {
             DescribeEndpointAuthorizationResponse describeResponse = proxyClient.injectCredentialsAndInvokeV2(
                     describeRequest, proxyClient.client()::describeEndpointAuthorization);
 
-            if (!describeResponse.endpointAuthorizationList().isEmpty()) {
+            // a grant that is still Revoking is on its way out, the authorize call is retried until it is gone
+            if (describeResponse.endpointAuthorizationList().stream()
+                    .anyMatch(authorization -> authorization.status() != AuthorizationStatus.REVOKING)) {
                 throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME,
                         String.format("%s|%s", request.clusterIdentifier(), request.account()));
             }
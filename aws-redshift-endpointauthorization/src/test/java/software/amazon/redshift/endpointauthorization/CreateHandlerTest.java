@@ -11,11 +11,13 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
 import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
+import software.amazon.awssdk.services.redshift.model.InvalidAuthorizationStateException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -23,6 +25,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +33,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -88,8 +92,14 @@ public class CreateHandlerTest extends AbstractTestBase {
                                     .endpointAuthorizationList(Arrays.asList(EndpointAuthorization.builder().build()))
                                     .build());
 
-                    final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
-                            proxy, request, new CallbackContext(), proxyClient, logger);
+                    final ProgressEvent<ResourceModel, CallbackContext> response;
+                    try (MockedStatic<EndpointAuthorizationStabilizers> mockedStabilizers =
+                                 mockStatic(EndpointAuthorizationStabilizers.class)) {
+                        mockedStabilizers.when(() -> EndpointAuthorizationStabilizers.isAuthorized(any(), any(), any()))
+                                .thenReturn(true);
+
+                        response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                    }
 
                     assertThat(response).isNotNull();
                     assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -101,5 +111,54 @@ public class CreateHandlerTest extends AbstractTestBase {
                 }
             }
         }
+
+        @Test
+        public void testHandleRequestWaitsForRevokingGrant() {
+            final CreateHandler handler = new CreateHandler();
+
+            final ResourceModel model = ResourceModel.builder()
+                    .clusterIdentifier("cluster-id")
+                    .account("account")
+                    .build();
+
+            final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                    .desiredResourceState(model)
+                    .build();
+
+            final DescribeEndpointAuthorizationResponse revoking = DescribeEndpointAuthorizationResponse.builder()
+                    .endpointAuthorizationList(EndpointAuthorization.builder()
+                            .clusterIdentifier("cluster-id")
+                            .grantee("account")
+                            .status(AuthorizationStatus.REVOKING)
+                            .build())
+                    .build();
+            final DescribeEndpointAuthorizationResponse authorized = DescribeEndpointAuthorizationResponse.builder()
+                    .endpointAuthorizationList(EndpointAuthorization.builder()
+                            .clusterIdentifier("cluster-id")
+                            .grantee("account")
+                            .authorizeTime(Instant.now())
+                            .status(AuthorizationStatus.AUTHORIZED)
+                            .build())
+                    .build();
+
+            // the earlier grant is still Revoking when the create starts and gone by the time the call is retried
+            when(proxyClient.client().describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                    .thenReturn(revoking)
+                    .thenReturn(revoking)
+                    .thenReturn(DescribeEndpointAuthorizationResponse.builder().build())
+                    .thenReturn(authorized);
+            when(proxyClient.client().authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class)))
+                    .thenThrow(InvalidAuthorizationStateException.builder().build())
+                    .thenReturn(AuthorizeEndpointAccessResponse.builder().build());
+
+            final ProgressEvent<ResourceModel, CallbackContext> response =
+                    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+            assertThat(response).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            assertThat(response.getResourceModel().getStatus()).isEqualTo(AuthorizationStatus.AUTHORIZED.toString());
+            verify(sdkClient, times(2)).authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class));
+            verify(sdkClient, times(5)).describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class));
+        }
     }
 }
@@ -70,9 +70,14 @@ public class DeleteHandlerTest extends AbstractTestBase {
                     when(proxyClient.client().revokeEndpointAccess(any(RevokeEndpointAccessRequest.class)))
                             .thenReturn(RevokeEndpointAccessResponse.builder().build());
 
-                    final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
-                            proxy, request, new CallbackContext(), proxyClient, logger
-                    );
+                    final ProgressEvent<ResourceModel, CallbackContext> response;
+                    try (MockedStatic<EndpointAuthorizationStabilizers> mockedStabilizers =
+                                 mockStatic(EndpointAuthorizationStabilizers.class)) {
+                        mockedStabilizers.when(() -> EndpointAuthorizationStabilizers.isRevoked(any(), any(), any()))
+                                .thenReturn(true);
+
+                        response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+                    }
 
                     assertThat(response).isNotNull();
                     assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -0,0 +1,170 @@
+package software.amazon.redshift.endpointauthorization;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
+import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.Cluster;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeClustersResponse;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
+import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorizationNotFoundException;
+import software.amazon.awssdk.services.redshift.model.InvalidAuthorizationStateException;
+import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
+import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessRequest;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EndpointAuthorizationStabilizersTest extends AbstractTestBase {
+    private final ResourceModel model = ResourceModel.builder()
+            .clusterIdentifier("cluster-id")
+            .account("account")
+            .build();
+    private static final AuthorizeEndpointAccessRequest AUTHORIZE_REQUEST = AuthorizeEndpointAccessRequest.builder()
+            .clusterIdentifier("cluster-id")
+            .account("account")
+            .build();
+    private static final RevokeEndpointAccessRequest REVOKE_REQUEST = RevokeEndpointAccessRequest.builder()
+            .clusterIdentifier("cluster-id")
+            .account("account")
+            .build();
+
+    private RedshiftClient sdkClient;
+    private ProxyClient<RedshiftClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        sdkClient = mock(RedshiftClient.class);
+        proxyClient = MOCK_PROXY(proxy, sdkClient);
+    }
+
+    @Test
+    public void testIsAuthorized() {
+        mockDescribe(DescribeEndpointAuthorizationResponse.builder().build());
+        assertFalse(EndpointAuthorizationStabilizers.isAuthorized(proxyClient, model, new CallbackContext()));
+
+        mockStatus(AuthorizationStatus.AUTHORIZED);
+        assertTrue(EndpointAuthorizationStabilizers.isAuthorized(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void testIsAuthorizedFailsOnRevoking() {
+        mockStatus(AuthorizationStatus.REVOKING);
+
+        assertThrows(CfnNotStabilizedException.class,
+                () -> EndpointAuthorizationStabilizers.isAuthorized(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void testIsRevoked() {
+        mockStatus(AuthorizationStatus.REVOKING);
+        assertFalse(EndpointAuthorizationStabilizers.isRevoked(proxyClient, model, new CallbackContext()));
+
+        mockDescribe(DescribeEndpointAuthorizationResponse.builder().build());
+        assertTrue(EndpointAuthorizationStabilizers.isRevoked(proxyClient, model, new CallbackContext()));
+
+        when(sdkClient.describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                .thenThrow(EndpointAuthorizationNotFoundException.builder().build());
+        assertTrue(EndpointAuthorizationStabilizers.isRevoked(proxyClient, model, new CallbackContext()));
+    }
+
+    @Test
+    public void testIsRetryableAuthorizationStateError() {
+        final CallbackContext context = new CallbackContext();
+        final Exception grantBusy = new CfnResourceConflictException(InvalidAuthorizationStateException.builder().build());
+
+        // a previous grant is still being revoked, authorizing again works once it is gone
+        mockStatus(AuthorizationStatus.REVOKING);
+        assertTrue(EndpointAuthorizationStabilizers.isRetryableAuthorizationStateError(
+                AUTHORIZE_REQUEST, grantBusy, proxyClient, model, context, logger));
+        assertTrue(context.getTransientStateWaitStart() > 0L);
+
+        mockStatus(AuthorizationStatus.AUTHORIZED);
+        assertFalse(EndpointAuthorizationStabilizers.isRetryableAuthorizationStateError(
+                AUTHORIZE_REQUEST, grantBusy, proxyClient, model, context, logger));
+
+        assertFalse(EndpointAuthorizationStabilizers.isRetryableAuthorizationStateError(
+                AUTHORIZE_REQUEST, new CfnInvalidRequestException("invalid"), proxyClient, model, context, logger));
+    }
+
+    @Test
+    public void testIsRetryableClusterStateError() {
+        final CallbackContext context = new CallbackContext();
+        final Exception clusterBusy = new CfnInvalidRequestException(InvalidClusterStateException.builder().build());
+
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(Cluster.builder().clusterStatus("modifying").build())
+                        .build())
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(Cluster.builder().clusterStatus("paused").build())
+                        .build())
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(Cluster.builder().clusterStatus("modifying").build())
+                        .build());
+        assertTrue(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                AUTHORIZE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+        assertFalse(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                AUTHORIZE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+
+        // gives up once the budget is spent, without describing again
+        context.setTransientStateWaitStart(System.currentTimeMillis()
+                - EndpointAuthorizationStabilizers.TRANSIENT_STATE_RETRY_BUDGET.plusMinutes(1L).toMillis());
+        assertFalse(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                AUTHORIZE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+
+        // the next stalled call gets a budget of its own
+        assertTrue(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                REVOKE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+    }
+
+    @Test
+    public void testIsRetryableClusterStateErrorOnAvailableClusterRetriesOnce() {
+        final CallbackContext context = new CallbackContext();
+        final Exception clusterBusy = new CfnInvalidRequestException(InvalidClusterStateException.builder().build());
+
+        when(sdkClient.describeClusters(any(DescribeClustersRequest.class)))
+                .thenReturn(DescribeClustersResponse.builder()
+                        .clusters(Cluster.builder().clusterStatus("available").build())
+                        .build());
+        // the conflict may have cleared before the describe, a cluster still rejecting the call is not going to change
+        assertTrue(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                AUTHORIZE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+        assertFalse(EndpointAuthorizationStabilizers.isRetryableClusterStateError(
+                AUTHORIZE_REQUEST, clusterBusy, proxyClient, model, context, logger));
+    }
+
+    private void mockStatus(final AuthorizationStatus status) {
+        mockDescribe(DescribeEndpointAuthorizationResponse.builder()
+                .endpointAuthorizationList(EndpointAuthorization.builder()
+                        .clusterIdentifier(model.getClusterIdentifier())
+                        .grantee(model.getAccount())
+                        .status(status)
+                        .build())
+                .build());
+    }
+
+    private void mockDescribe(final DescribeEndpointAuthorizationResponse response) {
+        when(sdkClient.describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                .thenReturn(response);
+    }
+}
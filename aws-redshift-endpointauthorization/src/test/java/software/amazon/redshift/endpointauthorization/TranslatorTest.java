@@ -12,10 +12,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
 import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
 import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessRequest;
+import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -127,8 +129,8 @@ public class TranslatorTest {
 
         @Test
         public void testNullVpcIdsToAdd() {
-            mockedClass.when(() -> Translator.getVpcIdsToAdd(resourceModel, proxyClient)).thenReturn(null);
-            assertNull(Translator.translateToUpdateAuthorizeRequest(resourceModel, proxyClient));
+            mockedClass.when(() -> Translator.getVpcIdsToAdd(resourceModel, vpcIds)).thenReturn(null);
+            assertNull(Translator.translateToUpdateAuthorizeRequest(resourceModel, vpcIds));
         }
 
         @Test
@@ -139,8 +141,8 @@ public class TranslatorTest {
                     .clusterIdentifier(clusterIdentifier)
                     .build();
 
-            mockedClass.when(() -> Translator.getVpcIdsToAdd(resourceModel, proxyClient)).thenReturn(vpcIds);
-            assertEquals(expectedRequest, Translator.translateToUpdateAuthorizeRequest(resourceModel, proxyClient));
+            mockedClass.when(() -> Translator.getVpcIdsToAdd(resourceModel, vpcIds)).thenReturn(vpcIds);
+            assertEquals(expectedRequest, Translator.translateToUpdateAuthorizeRequest(resourceModel, vpcIds));
         }
     }
 
@@ -158,8 +160,8 @@ public class TranslatorTest {
 
         @Test
         public void testNullVpcIdsToRemove() {
-            mockedClass.when(() -> Translator.getVpcIdsToRemove(resourceModel, proxyClient)).thenReturn(null);
-            assertNull(Translator.translateToUpdateRevokeRequest(resourceModel, proxyClient));
+            mockedClass.when(() -> Translator.getVpcIdsToRemove(resourceModel, vpcIds)).thenReturn(null);
+            assertNull(Translator.translateToUpdateRevokeRequest(resourceModel, vpcIds));
         }
 
         @Test
@@ -170,8 +172,8 @@ public class TranslatorTest {
                     .account(account)
                     .build();
 
-            mockedClass.when(() -> Translator.getVpcIdsToRemove(resourceModel, proxyClient)).thenReturn(vpcIds);
-            assertEquals(expectedRequest, Translator.translateToUpdateRevokeRequest(resourceModel, proxyClient));
+            mockedClass.when(() -> Translator.getVpcIdsToRemove(resourceModel, vpcIds)).thenReturn(vpcIds);
+            assertEquals(expectedRequest, Translator.translateToUpdateRevokeRequest(resourceModel, vpcIds));
         }
     }
 
@@ -183,50 +185,36 @@ public class TranslatorTest {
         }
         @Mock ResourceModel resourceModel;
 
-        @BeforeEach
-        public void setup() {
-            doReturn(account).when(resourceModel).getAccount();
-            doReturn(clusterIdentifier).when(resourceModel).getClusterIdentifier();
-        }
-
         @Test
         public void testIdempotentAllowAll() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(Collections.EMPTY_LIST);
             doReturn(Collections.EMPTY_LIST).when(resourceModel).getVpcIds();
 
-            assertNull(Translator.getVpcIdsToAdd(resourceModel, proxyClient));
+            assertNull(Translator.getVpcIdsToAdd(resourceModel, Collections.emptyList()));
         }
 
         @Test
         public void testAuthorizeAllToSpecificThrowsError() {
-             mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                     .thenReturn(Collections.EMPTY_LIST);
              doReturn(vpcIds).when(resourceModel).getVpcIds();
 
              assertThrows(
                      CfnInvalidRequestException.class,
-                     () -> Translator.getVpcIdsToAdd(resourceModel, proxyClient)
+                     () -> Translator.getVpcIdsToAdd(resourceModel, Collections.emptyList())
              );
         }
 
         @Test
         public void testNoVpcIdsToSend() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(vpcIds);
             doReturn(vpcIds).when(resourceModel).getVpcIds();
 
             mockedClass.when(() -> Translator.getVpcIdsToAdd(vpcIds, vpcIds)).thenReturn(Collections.EMPTY_LIST);
-            assertNull(Translator.getVpcIdsToAdd(resourceModel, proxyClient));
+            assertNull(Translator.getVpcIdsToAdd(resourceModel, vpcIds));
         }
 
         @Test
         public void testNoVpcIdsInUpdateRequest() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(vpcIds);
             doReturn(Collections.EMPTY_LIST).when(resourceModel).getVpcIds();
 
-            assertTrue(Translator.getVpcIdsToAdd(resourceModel, proxyClient).isEmpty());
+            assertTrue(Translator.getVpcIdsToAdd(resourceModel, vpcIds).isEmpty());
         }
     }
 
@@ -238,51 +226,37 @@ public class TranslatorTest {
         }
         @Mock ResourceModel resourceModel;
 
-        @BeforeEach
-        public void setup() {
-            doReturn(account).when(resourceModel).getAccount();
-            doReturn(clusterIdentifier).when(resourceModel).getClusterIdentifier();
-        }
-
         @Test
         public void testIdempotentAllowAll() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(Collections.EMPTY_LIST);
             doReturn(Collections.EMPTY_LIST).when(resourceModel).getVpcIds();
 
-            assertNull(Translator.getVpcIdsToRemove(resourceModel, proxyClient));
+            assertNull(Translator.getVpcIdsToRemove(resourceModel, Collections.emptyList()));
         }
 
         @Test
         public void testAuthorizeAllToSpecificThrowsError() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(Collections.EMPTY_LIST);
             doReturn(vpcIds).when(resourceModel).getVpcIds();
 
             assertThrows(
                     CfnInvalidRequestException.class,
-                    () -> Translator.getVpcIdsToRemove(resourceModel, proxyClient)
+                    () -> Translator.getVpcIdsToRemove(resourceModel, Collections.emptyList())
             );
         }
 
         @Test
         public void testNoVpcIdsToSend() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(vpcIds);
             doReturn(vpcIds).when(resourceModel).getVpcIds();
 
             mockedClass.when(() -> Translator.getVpcIdsToRemove(vpcIds, vpcIds)).thenReturn(Collections.EMPTY_LIST);
-            assertNull(Translator.getVpcIdsToRemove(resourceModel, proxyClient));
+            assertNull(Translator.getVpcIdsToRemove(resourceModel, vpcIds));
         }
 
         @Test
         public void testNoVpcIdsInUpdateRequest() {
-            mockedClass.when(() -> Translator.getExistingVpcIds(account, clusterIdentifier, proxyClient))
-                    .thenReturn(vpcIds);
             doReturn(vpcIds).when(resourceModel).getVpcIds();
             mockedClass.when(() -> Translator.getVpcIdsToRemove(vpcIds, vpcIds)).thenReturn(vpcIds);
 
-            assertEquals(vpcIds, Translator.getVpcIdsToRemove(resourceModel, proxyClient));
+            assertEquals(vpcIds, Translator.getVpcIdsToRemove(resourceModel, vpcIds));
         }
     }
 
@@ -359,6 +333,50 @@ public class TranslatorTest {
         }
     }
 
+    @Test
+    public void testTranslateMutationResponsesToEndpointAuthorization() {
+        Instant authorizeTime = Instant.now();
+        EndpointAuthorization expectedAuthorization = EndpointAuthorization.builder()
+                .grantor("grantor")
+                .grantee(account)
+                .clusterIdentifier(clusterIdentifier)
+                .authorizeTime(authorizeTime)
+                .clusterStatus("available")
+                .status(AuthorizationStatus.AUTHORIZED)
+                .allowedAllVPCs(false)
+                .allowedVPCs(vpcIds)
+                .endpointCount(0)
+                .build();
+
+        AuthorizeEndpointAccessResponse authorizeResponse = AuthorizeEndpointAccessResponse.builder()
+                .grantor("grantor")
+                .grantee(account)
+                .clusterIdentifier(clusterIdentifier)
+                .authorizeTime(authorizeTime)
+                .clusterStatus("available")
+                .status(AuthorizationStatus.AUTHORIZED)
+                .allowedAllVPCs(false)
+                .allowedVPCs(vpcIds)
+                .endpointCount(0)
+                .build();
+
+        RevokeEndpointAccessResponse revokeResponse = RevokeEndpointAccessResponse.builder()
+                .grantor("grantor")
+                .grantee(account)
+                .clusterIdentifier(clusterIdentifier)
+                .authorizeTime(authorizeTime)
+                .clusterStatus("available")
+                .status(AuthorizationStatus.AUTHORIZED)
+                .allowedAllVPCs(false)
+                .allowedVPCs(vpcIds)
+                .endpointCount(0)
+                .build();
+
+        assertEquals(expectedAuthorization, Translator.translateToEndpointAuthorization(authorizeResponse));
+        assertEquals(expectedAuthorization, Translator.translateToEndpointAuthorization(revokeResponse));
+        assertEquals(vpcIds, Translator.translateFromAuthorization(expectedAuthorization).getVpcIds());
+    }
+
     @Nested
     @DisplayName("TranslateToRevokeRequest")
     public class TranslateToRevokeRequest {
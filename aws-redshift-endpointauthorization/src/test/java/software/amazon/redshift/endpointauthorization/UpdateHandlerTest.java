@@ -3,6 +3,7 @@ package software.amazon.redshift.endpointauthorization;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -13,6 +14,7 @@ import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessReq
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
+import software.amazon.awssdk.services.redshift.model.EndpointAuthorization;
 import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.RevokeEndpointAccessResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,10 +24,17 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,24 +67,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
             try (MockedStatic<Validator> mockedValidator = Mockito.mockStatic(Validator.class)) {
                 AuthorizeEndpointAccessRequest authorizeRequest = AuthorizeEndpointAccessRequest.builder().build();
                 RevokeEndpointAccessRequest revokeRequest = RevokeEndpointAccessRequest.builder().build();
-                DescribeEndpointAuthorizationRequest describeRequest = DescribeEndpointAuthorizationRequest.builder()
-                        .build();
 
+                mockedTranslator.when(() -> Translator.getExistingAuthorization(any(), any(), any()))
+                        .thenReturn(EndpointAuthorization.builder().build());
                 mockedTranslator.when(() -> Translator.translateToUpdateAuthorizeRequest(any(), any()))
                         .thenReturn(authorizeRequest);
                 mockedTranslator.when(() -> Translator.translateToUpdateRevokeRequest(any(), any()))
                         .thenReturn(revokeRequest);
-                mockedTranslator.when(() -> Translator.translateToReadRequest(any())).thenReturn(describeRequest);
-                mockedTranslator.when(() -> Translator.translateFromReadResponse(any())).thenReturn(model);
+                mockedTranslator.when(() -> Translator.translateFromAuthorization(any())).thenReturn(model);
                 mockedValidator.when(() -> Validator.doesExist(any())).thenReturn(true);
 
                 when(proxyClient.client().authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class)))
                         .thenReturn(AuthorizeEndpointAccessResponse.builder().build());
                 when(proxyClient.client().revokeEndpointAccess(any(RevokeEndpointAccessRequest.class)))
                         .thenReturn(RevokeEndpointAccessResponse.builder().build());
-                when(proxyClient.client().describeEndpointAuthorization(
-                        any(DescribeEndpointAuthorizationRequest.class))
-                ).thenReturn(DescribeEndpointAuthorizationResponse.builder().build());
 
                 final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
                         proxy, request, new CallbackContext(), proxyClient, logger
@@ -90,4 +95,128 @@ public class UpdateHandlerTest extends AbstractTestBase {
             }
         }
     }
+
+    @Test
+    public void testHandleRequestDiffsAgainstSingleDescribe() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .account("account")
+                .clusterIdentifier("cluster-id")
+                .vpcIds(Arrays.asList("vpc-2", "vpc-3"))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                .thenReturn(DescribeEndpointAuthorizationResponse.builder()
+                        .endpointAuthorizationList(authorization(Arrays.asList("vpc-1", "vpc-2")))
+                        .build());
+        when(proxyClient.client().authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class)))
+                .thenReturn(AuthorizeEndpointAccessResponse.builder()
+                        .grantee("account")
+                        .clusterIdentifier("cluster-id")
+                        .authorizeTime(Instant.now())
+                        .allowedVPCs("vpc-1", "vpc-2", "vpc-3")
+                        .build());
+        when(proxyClient.client().revokeEndpointAccess(any(RevokeEndpointAccessRequest.class)))
+                .thenReturn(RevokeEndpointAccessResponse.builder()
+                        .grantee("account")
+                        .clusterIdentifier("cluster-id")
+                        .authorizeTime(Instant.now())
+                        .allowedVPCs("vpc-2", "vpc-3")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getVpcIds()).containsExactly("vpc-2", "vpc-3");
+
+        ArgumentCaptor<AuthorizeEndpointAccessRequest> authorizeCaptor = ArgumentCaptor.forClass(AuthorizeEndpointAccessRequest.class);
+        ArgumentCaptor<RevokeEndpointAccessRequest> revokeCaptor = ArgumentCaptor.forClass(RevokeEndpointAccessRequest.class);
+        verify(sdkClient, times(1)).describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class));
+        verify(sdkClient).authorizeEndpointAccess(authorizeCaptor.capture());
+        verify(sdkClient).revokeEndpointAccess(revokeCaptor.capture());
+        assertThat(authorizeCaptor.getValue().vpcIds()).containsExactly("vpc-3");
+        assertThat(revokeCaptor.getValue().vpcIds()).containsExactly("vpc-1");
+    }
+
+    @Test
+    public void testHandleRequestSkipsEmptyAuthorizeAndRevoke() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .account("account")
+                .clusterIdentifier("cluster-id")
+                .vpcIds(Collections.singletonList("vpc-1"))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                .thenReturn(DescribeEndpointAuthorizationResponse.builder()
+                        .endpointAuthorizationList(authorization(Collections.singletonList("vpc-1")))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getVpcIds()).containsExactly("vpc-1");
+
+        verify(sdkClient, times(1)).describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class));
+        verify(sdkClient, never()).authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class));
+        verify(sdkClient, never()).revokeEndpointAccess(any(RevokeEndpointAccessRequest.class));
+    }
+
+    @Test
+    public void testHandleRequestNoChanges() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel model = ResourceModel.builder()
+                .account("account")
+                .clusterIdentifier("cluster-id")
+                .vpcIds(Arrays.asList("vpc-1", "vpc-2"))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                // same VPCs in a different order, Force only matters on delete
+                .previousResourceState(model.toBuilder()
+                        .vpcIds(Arrays.asList("vpc-2", "vpc-1"))
+                        .force(true)
+                        .build())
+                .build();
+
+        when(proxyClient.client().describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class)))
+                .thenReturn(DescribeEndpointAuthorizationResponse.builder()
+                        .endpointAuthorizationList(authorization(Arrays.asList("vpc-1", "vpc-2")))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        verify(sdkClient, times(1)).describeEndpointAuthorization(any(DescribeEndpointAuthorizationRequest.class));
+        verify(sdkClient, never()).authorizeEndpointAccess(any(AuthorizeEndpointAccessRequest.class));
+        verify(sdkClient, never()).revokeEndpointAccess(any(RevokeEndpointAccessRequest.class));
+    }
+
+    private EndpointAuthorization authorization(final List<String> allowedVpcs) {
+        return EndpointAuthorization.builder()
+                .grantee("account")
+                .clusterIdentifier("cluster-id")
+                .authorizeTime(Instant.now())
+                .allowedVPCs(allowedVpcs)
+                .build();
+    }
 }
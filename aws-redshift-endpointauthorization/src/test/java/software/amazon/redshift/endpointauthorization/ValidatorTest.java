@@ -5,6 +5,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.redshift.RedshiftClient;
+import software.amazon.awssdk.services.redshift.model.AuthorizationStatus;
 import software.amazon.awssdk.services.redshift.model.AuthorizeEndpointAccessRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeEndpointAuthorizationResponse;
@@ -16,6 +17,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -47,6 +49,25 @@ public class ValidatorTest {
         assertThrows(CfnAlreadyExistsException.class, () -> Validator.validateAuthNotExists(request, proxyClient));
     }
 
+    @Test
+    public void testValidateAuthNotExistsIgnoresRevokingGrant() {
+        AuthorizeEndpointAccessRequest request = AuthorizeEndpointAccessRequest.builder()
+                .account(account)
+                .clusterIdentifier(clusterIdentifier)
+                .build();
+
+        DescribeEndpointAuthorizationResponse response = DescribeEndpointAuthorizationResponse.builder()
+                .endpointAuthorizationList(Arrays.asList(EndpointAuthorization.builder()
+                        .status(AuthorizationStatus.REVOKING)
+                        .build()))
+                .build();
+
+        doReturn(response).when(proxyClient).injectCredentialsAndInvokeV2(any(), any());
+        doReturn(client).when(proxyClient).client();
+
+        assertDoesNotThrow(() -> Validator.validateAuthNotExists(request, proxyClient));
+    }
+
     @Test
     public void testValidateReadReturnedAuthorization() {
         DescribeEndpointAuthorizationRequest request = DescribeEndpointAuthorizationRequest.builder()
@@ -7,6 +7,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -31,4 +37,31 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger);
+
+    /*
+    true when neither the subscription nor its tags change. SourceIds and EventCategories are compared
+    as sets, the service reports them in its own order.
+     */
+    protected static boolean isNoOpUpdate(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel desired = request.getDesiredResourceState();
+        final ResourceModel previous = request.getPreviousResourceState();
+        return desired != null && previous != null
+                && Objects.equals(desired.getSubscriptionName(), previous.getSubscriptionName())
+                && Objects.equals(desired.getSnsTopicArn(), previous.getSnsTopicArn())
+                && Objects.equals(desired.getSourceType(), previous.getSourceType())
+                && sameElements(desired.getSourceIds(), previous.getSourceIds())
+                && sameElements(desired.getEventCategories(), previous.getEventCategories())
+                && Objects.equals(desired.getSeverity(), previous.getSeverity())
+                && Objects.equals(desired.getEnabled(), previous.getEnabled())
+                && sameElements(desired.getTags(), previous.getTags())
+                // stack level tags arrive outside of the model
+                && Objects.equals(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()),
+                        Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
+    }
+
+    protected static <T> boolean sameElements(final Collection<T> first, final Collection<T> second) {
+        // a missing list and an empty one both leave the property unset
+        return (first == null ? new HashSet<T>() : new HashSet<>(first))
+                .equals(second == null ? new HashSet<T>() : new HashSet<>(second));
+    }
 }
@@ -27,7 +27,6 @@ import java.util.Optional;
 import com.google.common.collect.Maps;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -36,8 +35,6 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         final ResourceModel resourceModel = request.getDesiredResourceState();
         //Resource level + stack level tags
         Map<String, String> convertedTags = Translator.translateFromResourceModelToSdkTags(resourceModel.getTags());
@@ -50,7 +47,7 @@ public class CreateHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-EventSubscription::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, mergedTags))
-                                .makeServiceCall(this::createEventSubscription)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> createEventSubscription(_awsRequest, _proxyClient, logger))
                                 .handleError(this::createEventSubscriptionErrorHandler)
                                 .progress()
                 )
@@ -59,7 +56,8 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private CreateEventSubscriptionResponse createEventSubscription(final CreateEventSubscriptionRequest awsRequest,
-                                                                    final ProxyClient<RedshiftClient> proxyClient) {
+                                                                    final ProxyClient<RedshiftClient> proxyClient,
+                                                                    final Logger logger) {
         CreateEventSubscriptionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createEventSubscription);
 
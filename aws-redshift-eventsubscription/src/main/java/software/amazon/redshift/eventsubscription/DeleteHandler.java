@@ -13,7 +13,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,13 +21,11 @@ public class DeleteHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-EventSubscription::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteEventSubscription)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> deleteEventSubscription(_awsRequest, _proxyClient, logger))
                                 .handleError(this::deleteEventSubscriptionErrorHandler)
                                 .progress()
                 )
@@ -37,7 +34,8 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     private DeleteEventSubscriptionResponse deleteEventSubscription(final DeleteEventSubscriptionRequest awsRequest,
-                                                                    final ProxyClient<RedshiftClient> proxyClient) {
+                                                                    final ProxyClient<RedshiftClient> proxyClient,
+                                                                    final Logger logger) {
         DeleteEventSubscriptionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::deleteEventSubscription);
 
@@ -17,7 +17,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
-    private Logger logger;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,9 +25,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        this.logger = logger;
         DescribeEventSubscriptionsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
-        DescribeEventSubscriptionsResponse awsResponse = listEventSubscriptions(awsRequest, proxy);
+        DescribeEventSubscriptionsResponse awsResponse = listEventSubscriptions(awsRequest, proxy, logger);
         List<ResourceModel> models = Translator.translateFromListRequest(awsResponse);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -39,7 +37,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     }
 
     private DescribeEventSubscriptionsResponse listEventSubscriptions(final DescribeEventSubscriptionsRequest awsRequest,
-                                                                      final AmazonWebServicesClientProxy proxy) {
+                                                                      final AmazonWebServicesClientProxy proxy,
+                                                                      final Logger logger) {
         DescribeEventSubscriptionsResponse awsResponse;
         try {
             awsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, ClientBuilder.getClient()::describeEventSubscriptions);
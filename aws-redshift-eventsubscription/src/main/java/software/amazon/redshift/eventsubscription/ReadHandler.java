@@ -13,7 +13,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,17 +21,16 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate("AWS-Redshift-EventSubscription::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall(this::describeEventSubscriptions)
+                .makeServiceCall((_awsRequest, _proxyClient) -> describeEventSubscriptions(_awsRequest, _proxyClient, logger))
                 .handleError(this::describeEventSubscriptionsErrorHandler)
                 .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
     }
 
     private DescribeEventSubscriptionsResponse describeEventSubscriptions(final DescribeEventSubscriptionsRequest awsRequest,
-                                                                          final ProxyClient<RedshiftClient> proxyClient) {
+                                                                          final ProxyClient<RedshiftClient> proxyClient,
+                                                                          final Logger logger) {
         DescribeEventSubscriptionsResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeEventSubscriptions);
 
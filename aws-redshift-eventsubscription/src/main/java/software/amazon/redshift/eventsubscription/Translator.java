@@ -1,7 +1,5 @@
 package software.amazon.redshift.eventsubscription;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import software.amazon.awssdk.services.redshift.model.CreateEventSubscriptionRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteEventSubscriptionRequest;
@@ -31,7 +29,6 @@ import java.util.stream.Stream;
  */
 
 public class Translator {
-    private static final Gson GSON = new GsonBuilder().create();
 
     /**
      * Request to create a resource
@@ -207,7 +204,10 @@ public class Translator {
     }
 
     private static software.amazon.awssdk.services.redshift.model.Tag translateToSdkTag(Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), software.amazon.awssdk.services.redshift.model.Tag.class);
+        return software.amazon.awssdk.services.redshift.model.Tag.builder()
+                .key(tag.getKey())
+                .value(tag.getValue())
+                .build();
     }
 
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
@@ -241,7 +241,10 @@ public class Translator {
     }
 
     private static Tag translateToModelTag(software.amazon.awssdk.services.redshift.model.Tag tag) {
-        return GSON.fromJson(GSON.toJson(tag), Tag.class);
+        return Tag.builder()
+                .key(tag.key())
+                .value(tag.value())
+                .build();
     }
 
     private static List<Tag> translateToModelTags(List<software.amazon.awssdk.services.redshift.model.Tag> sdkTags) {
@@ -2,8 +2,6 @@ package software.amazon.redshift.eventsubscription;
 
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.InvalidClusterStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidSubscriptionStateException;
 import software.amazon.awssdk.services.redshift.model.InvalidTagException;
@@ -33,7 +31,6 @@ import java.util.Map;
 import java.util.Optional;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -42,8 +39,13 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
         final ResourceModel desiredResourceState = request.getDesiredResourceState();
+        if (isNoOpUpdate(request)) {
+            logger.log(String.format("%s %s is unchanged, skipping ModifyEventSubscription and tagging.",
+                    ResourceModel.TYPE_NAME, desiredResourceState.getSubscriptionName()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         final String resourceName = "arn:" + request.getAwsPartition() + ":redshift:" + request.getRegion() + ":" + request.getAwsAccountId() + ":eventsubscription:" + request.getDesiredResourceState().getSubscriptionName();
         Map<String, String> allDesiredTags = new HashMap<>();
         allDesiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
@@ -61,22 +63,11 @@ public class UpdateHandler extends BaseHandlerStd {
         List<Tag> currentTags = Translator.translateTagsMapToTagCollection(allPreviousTags);
 
         return ProgressEvent.progress(desiredResourceState, callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-Redshift-EventSubscription::Update::ReadTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                                .translateToServiceRequest(resourceModel -> Translator.translateToReadTagsRequest(resourceName))
-                                .makeServiceCall(this::readTags)
-                                .handleError(this::operateTagsErrorHandler)
-                                .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                                        .callbackContext(callbackContext)
-                                        .callbackDelaySeconds(0)
-                                        .resourceModel(Translator.translateFromReadTagsResponse(tagsResponse))
-                                        .status(OperationStatus.IN_PROGRESS)
-                                        .build()))
-
+                // the tag diff comes from the previous resource state and stack tags, no DescribeTags round trip is needed
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-EventSubscription::Update::UpdateTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(resourceModel -> Translator.translateToUpdateTagsRequest(desiredTags, currentTags, resourceName))
-                                .makeServiceCall(this::updateTags)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> updateTags(_awsRequest, _proxyClient, logger))
                                 .handleError(this::operateTagsErrorHandler)
                                 .done((tagsRequest, tagsResponse, client, model, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                         .callbackContext(callbackContext)
@@ -88,24 +79,16 @@ public class UpdateHandler extends BaseHandlerStd {
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-EventSubscription::Update::UpdateInstance", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .makeServiceCall(this::modifyEventSubscription)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyEventSubscription(_awsRequest, _proxyClient, logger))
                                 .handleError(this::modifyEventSubscriptionErrorHandler)
                                 .progress())
 
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
-    private DescribeTagsResponse readTags(final DescribeTagsRequest awsRequest,
-                                          final ProxyClient<RedshiftClient> proxyClient) {
-        DescribeTagsResponse awsResponse;
-        awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeTags);
-
-        logger.log(String.format("%s's tags have successfully been read.", ResourceModel.TYPE_NAME));
-        return awsResponse;
-    }
-
     private CreateTagsResponse updateTags(final ModifyTagsRequest awsRequest,
-                                          final ProxyClient<RedshiftClient> proxyClient) {
+                                          final ProxyClient<RedshiftClient> proxyClient,
+                                          final Logger logger) {
         CreateTagsResponse awsResponse = null;
 
         if (awsRequest.getDeleteOldTagsRequest().tagKeys().isEmpty()) {
@@ -145,7 +128,8 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private ModifyEventSubscriptionResponse modifyEventSubscription(final ModifyEventSubscriptionRequest awsRequest,
-                                                                    final ProxyClient<RedshiftClient> proxyClient) {
+                                                                    final ProxyClient<RedshiftClient> proxyClient,
+                                                                    final Logger logger) {
         ModifyEventSubscriptionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::modifyEventSubscription);
 
@@ -11,7 +11,6 @@ import software.amazon.awssdk.services.redshift.model.CreateTagsRequest;
 import software.amazon.awssdk.services.redshift.model.CreateTagsResponse;
 import software.amazon.awssdk.services.redshift.model.DescribeEventSubscriptionsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeTagsRequest;
-import software.amazon.awssdk.services.redshift.model.DescribeTagsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyEventSubscriptionRequest;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -20,11 +19,16 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -63,7 +67,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .previousResourceTags(PREVIOUS_TAGS)
                 .build();
 
-        when(proxyClient.client().describeTags(any(DescribeTagsRequest.class))).thenReturn(DescribeTagsResponse.builder().build());
         when(proxyClient.client().createTags(any(CreateTagsRequest.class))).thenReturn(CreateTagsResponse.builder().build());
         when(proxyClient.client().modifyEventSubscription(any(ModifyEventSubscriptionRequest.class))).thenReturn(getUpdateResponseSdk());
         when(proxyClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class))).thenReturn(getReadResponseSdk());
@@ -77,5 +80,32 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(proxyClient.client(), never()).describeTags(any(DescribeTagsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_NoChanges() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        final ResourceModel requestResourceModel = getUpdateRequestResourceModel();
+        final List<String> sourceIds = new ArrayList<>(Optional.ofNullable(requestResourceModel.getSourceIds()).orElse(Collections.emptyList()));
+        Collections.reverse(sourceIds);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(requestResourceModel)
+                .desiredResourceTags(DESIRED_RESOURCE_TAGS)
+                // the service reports the source ids in its own order
+                .previousResourceState(requestResourceModel.toBuilder().sourceIds(sourceIds).build())
+                .previousResourceTags(DESIRED_RESOURCE_TAGS)
+                .build();
+
+        when(proxyClient.client().describeEventSubscriptions(any(DescribeEventSubscriptionsRequest.class))).thenReturn(getReadResponseSdk());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(getUpdateResponseResourceModel());
+        verify(proxyClient.client(), never()).modifyEventSubscription(any(ModifyEventSubscriptionRequest.class));
+        verify(proxyClient.client(), never()).createTags(any(CreateTagsRequest.class));
     }
 }
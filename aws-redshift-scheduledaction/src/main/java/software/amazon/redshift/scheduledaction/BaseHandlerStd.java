@@ -2,11 +2,15 @@ package software.amazon.redshift.scheduledaction;
 
 import software.amazon.awssdk.services.redshift.RedshiftClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Instant;
+import java.util.Objects;
+
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
@@ -31,4 +35,59 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger);
+
+    /*
+    Checks the schedule before any API call, a bad cron expression otherwise only surfaces as
+    InvalidScheduleException from the service. A new cron that never runs again is rejected as well, an existing
+    action keeps its expired schedule through updates of its other properties since the service accepts those.
+     */
+    protected ProgressEvent<ResourceModel, CallbackContext> validateSchedule(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String previousSchedule,
+            final Logger logger) {
+        final String schedule = progress.getResourceModel().getSchedule();
+        if (schedule == null) {
+            return progress;
+        }
+
+        final ScheduleExpression scheduleExpression;
+        try {
+            scheduleExpression = ScheduleExpression.parse(schedule);
+        } catch (IllegalArgumentException e) {
+            return failSchedule(progress, e.getMessage(), logger);
+        }
+
+        if (scheduleExpression.isCron() && !schedule.equals(previousSchedule)
+                && !scheduleExpression.nextInvocation(Instant.now()).isPresent()) {
+            return failSchedule(progress, String.format("Invalid schedule %s: never runs after now", schedule), logger);
+        }
+        return progress;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> failSchedule(
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final String message,
+            final Logger logger) {
+        logger.log(message);
+        return ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(),
+                HandlerErrorCode.InvalidRequest, message);
+    }
+
+    /*
+    true when the desired state matches the previous one in every property ModifyScheduledAction takes,
+    State and NextInvocations are reported by the service and don't count.
+     */
+    protected static boolean isNoOpUpdate(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel desired = request.getDesiredResourceState();
+        final ResourceModel previous = request.getPreviousResourceState();
+        return desired != null && previous != null
+                && Objects.equals(desired.getScheduledActionName(), previous.getScheduledActionName())
+                && Objects.equals(desired.getTargetAction(), previous.getTargetAction())
+                && Objects.equals(desired.getSchedule(), previous.getSchedule())
+                && Objects.equals(desired.getIamRole(), previous.getIamRole())
+                && Objects.equals(desired.getScheduledActionDescription(), previous.getScheduledActionDescription())
+                && Objects.equals(desired.getStartTime(), previous.getStartTime())
+                && Objects.equals(desired.getEndTime(), previous.getEndTime())
+                && Objects.equals(desired.getEnable(), previous.getEnable());
+    }
 }
@@ -17,7 +17,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class CreateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -26,13 +25,12 @@ public class CreateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(progress -> validateSchedule(progress, null, logger))
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-ScheduledAction::Create", proxyClient, progress.getResourceModel(), callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createScheduledAction)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> createScheduledAction(_awsRequest, _proxyClient, logger))
                                 .handleError(this::createScheduledActionsErrorHandler)
                                 .progress()
                 )
@@ -41,7 +39,8 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     private CreateScheduledActionResponse createScheduledAction(final CreateScheduledActionRequest awsRequest,
-                                                                final ProxyClient<RedshiftClient> proxyClient) {
+                                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                                final Logger logger) {
         CreateScheduledActionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::createScheduledAction);
 
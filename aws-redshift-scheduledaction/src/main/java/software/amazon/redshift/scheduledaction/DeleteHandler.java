@@ -13,7 +13,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class DeleteHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,13 +21,11 @@ public class DeleteHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-ScheduledAction::Delete", proxyClient, progress.getResourceModel(), callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteScheduledAction)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> deleteScheduledAction(_awsRequest, _proxyClient, logger))
                                 .handleError(this::deleteScheduledActionErrorHandler)
                                 .progress()
                 )
@@ -37,7 +34,8 @@ public class DeleteHandler extends BaseHandlerStd {
     }
 
     private DeleteScheduledActionResponse deleteScheduledAction(final DeleteScheduledActionRequest awsRequest,
-                                                                final ProxyClient<RedshiftClient> proxyClient) {
+                                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                                final Logger logger) {
         DeleteScheduledActionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::deleteScheduledAction);
 
@@ -17,7 +17,6 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.List;
 
 public class ListHandler extends BaseHandler<CallbackContext> {
-    private Logger logger;
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,9 +25,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        this.logger = logger;
         DescribeScheduledActionsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
-        DescribeScheduledActionsResponse awsResponse = listScheduledActions(awsRequest, proxy);
+        DescribeScheduledActionsResponse awsResponse = listScheduledActions(awsRequest, proxy, logger);
         List<ResourceModel> models = Translator.translateFromListRequest(awsResponse);
 
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
@@ -39,7 +37,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     }
 
     private DescribeScheduledActionsResponse listScheduledActions(final DescribeScheduledActionsRequest awsRequest,
-                                                                  final AmazonWebServicesClientProxy proxy) {
+                                                                  final AmazonWebServicesClientProxy proxy,
+                                                                  final Logger logger) {
         DescribeScheduledActionsResponse awsResponse;
         try {
             awsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, ClientBuilder.getClient()::describeScheduledActions);
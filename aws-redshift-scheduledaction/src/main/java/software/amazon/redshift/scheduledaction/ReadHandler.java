@@ -13,7 +13,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ReadHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -22,17 +21,16 @@ public class ReadHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
-
         return proxy.initiate("AWS-Redshift-ScheduledAction::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall(this::describeScheduledActions)
+                .makeServiceCall((_awsRequest, _proxyClient) -> describeScheduledActions(_awsRequest, _proxyClient, logger))
                 .handleError(this::describeScheduledActionsErrorHandler)
                 .done(awsResponse -> ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(awsResponse)));
     }
 
     private DescribeScheduledActionsResponse describeScheduledActions(final DescribeScheduledActionsRequest awsRequest,
-                                                                      final ProxyClient<RedshiftClient> proxyClient) {
+                                                                      final ProxyClient<RedshiftClient> proxyClient,
+                                                                      final Logger logger) {
         DescribeScheduledActionsResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::describeScheduledActions);
 
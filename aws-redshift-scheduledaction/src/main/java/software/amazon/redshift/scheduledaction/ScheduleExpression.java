@@ -0,0 +1,335 @@
+package software.amazon.redshift.scheduledaction;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parser and evaluator for scheduled action schedules, evaluated in UTC like the service does:
+ * - at(yyyy-mm-ddThh:mm:ss)
+ * - cron(Minutes Hours Day-of-month Month Day-of-week Year)
+ * Lets the handlers reject malformed schedules before calling the service and compute upcoming invocations locally.
+ */
+final class ScheduleExpression {
+    private static final Pattern AT_PATTERN = Pattern.compile("^at\\((.+)\\)$");
+    private static final Pattern CRON_PATTERN = Pattern.compile("^cron\\((.+)\\)$");
+    private static final Pattern NEAREST_WEEKDAY = Pattern.compile("^(\\d{1,2})W$");
+    private static final Pattern LAST_WEEKDAY_OF_MONTH = Pattern.compile("^(\\w+)L$");
+    private static final Pattern NTH_WEEKDAY_OF_MONTH = Pattern.compile("^(\\w+)#([1-5])$");
+
+    private static final int MIN_YEAR = 1970;
+    private static final int MAX_YEAR = 2199;
+
+    private static final Map<String, Integer> MONTH_NAMES = names("JAN", "FEB", "MAR", "APR", "MAY", "JUN",
+            "JUL", "AUG", "SEP", "OCT", "NOV", "DEC");
+    // cron counts the week from Sunday = 1 to Saturday = 7
+    private static final Map<String, Integer> DAY_OF_WEEK_NAMES = names("SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT");
+
+    // set for at(), the cron fields are null then
+    private final LocalDateTime at;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final Predicate<LocalDate> days;
+    private final BitSet months;
+    private final BitSet years;
+
+    private ScheduleExpression(final LocalDateTime at) {
+        this(at, null, null, null, null, null);
+    }
+
+    private ScheduleExpression(final LocalDateTime at,
+                               final BitSet minutes,
+                               final BitSet hours,
+                               final Predicate<LocalDate> days,
+                               final BitSet months,
+                               final BitSet years) {
+        this.at = at;
+        this.minutes = minutes;
+        this.hours = hours;
+        this.days = days;
+        this.months = months;
+        this.years = years;
+    }
+
+    /**
+     * Parses a schedule
+     *
+     * @param expression schedule in at( ) or cron( ) format
+     * @return the parsed schedule
+     * @throws IllegalArgumentException when the schedule is malformed
+     */
+    static ScheduleExpression parse(final String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("Schedule must not be null");
+        }
+
+        final String trimmed = expression.trim();
+        final Matcher atMatcher = AT_PATTERN.matcher(trimmed);
+        if (atMatcher.matches()) {
+            try {
+                return new ScheduleExpression(LocalDateTime.parse(atMatcher.group(1).trim()));
+            } catch (DateTimeParseException e) {
+                throw invalid(expression, "at( ) expects yyyy-mm-ddThh:mm:ss");
+            }
+        }
+
+        final Matcher cronMatcher = CRON_PATTERN.matcher(trimmed);
+        if (!cronMatcher.matches()) {
+            throw invalid(expression, "expected at( ) or cron( )");
+        }
+
+        final String[] fields = cronMatcher.group(1).trim().split("\\s+");
+        if (fields.length != 6) {
+            throw invalid(expression, "cron( ) expects 6 fields: Minutes Hours Day-of-month Month Day-of-week Year");
+        }
+
+        final String dayOfMonth = fields[2].toUpperCase();
+        final String dayOfWeek = fields[4].toUpperCase();
+        if ("?".equals(dayOfMonth) == "?".equals(dayOfWeek)) {
+            throw invalid(expression, "exactly one of Day-of-month and Day-of-week must be ?");
+        }
+
+        return new ScheduleExpression(null,
+                parseField(expression, "Minutes", fields[0], 0, 59, null),
+                parseField(expression, "Hours", fields[1], 0, 23, null),
+                "?".equals(dayOfMonth)
+                        ? parseDayOfWeek(expression, dayOfWeek)
+                        : parseDayOfMonth(expression, dayOfMonth),
+                parseField(expression, "Month", fields[3], 1, 12, MONTH_NAMES),
+                parseField(expression, "Year", fields[5], MIN_YEAR, MAX_YEAR, null));
+    }
+
+    boolean isCron() {
+        return at == null;
+    }
+
+    /**
+     * Finds the first invocation strictly after the given time
+     *
+     * @param after exclusive lower bound
+     * @return the next invocation, empty when the schedule doesn't run anymore
+     */
+    Optional<Instant> nextInvocation(final Instant after) {
+        final LocalDateTime start = LocalDateTime.ofInstant(after, ZoneOffset.UTC);
+        if (at != null) {
+            return at.isAfter(start) ? Optional.of(at.toInstant(ZoneOffset.UTC)) : Optional.empty();
+        }
+
+        // the first whole minute after the given time
+        final LocalDateTime from = start.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1L);
+        LocalDate date = from.toLocalDate();
+        while (date.getYear() <= MAX_YEAR) {
+            if (!years.get(date.getYear())) {
+                final int nextYear = years.nextSetBit(date.getYear() + 1);
+                if (nextYear < 0) {
+                    return Optional.empty();
+                }
+                date = LocalDate.of(nextYear, 1, 1);
+                continue;
+            }
+            if (!months.get(date.getMonthValue())) {
+                date = date.withDayOfMonth(1).plusMonths(1L);
+                continue;
+            }
+            if (days.test(date)) {
+                final LocalDateTime time = firstTimeOfDay(date, date.equals(from.toLocalDate()) ? from : date.atStartOfDay());
+                if (time != null) {
+                    return Optional.of(time.toInstant(ZoneOffset.UTC));
+                }
+            }
+            date = date.plusDays(1L);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Lazily computes the invocations after the given time, ends when the schedule doesn't run anymore.
+     * Recurring schedules run for a long time, bound them with limit( )
+     *
+     * @param after exclusive lower bound
+     * @return the invocations in order
+     */
+    Stream<Instant> nextInvocations(final Instant after) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<Instant>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private Instant previous = after;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super Instant> action) {
+                final Optional<Instant> next = nextInvocation(previous);
+                next.ifPresent(invocation -> {
+                    previous = invocation;
+                    action.accept(invocation);
+                });
+                return next.isPresent();
+            }
+        }, false);
+    }
+
+    private LocalDateTime firstTimeOfDay(final LocalDate date, final LocalDateTime from) {
+        for (int hour = hours.nextSetBit(from.getHour()); hour >= 0; hour = hours.nextSetBit(hour + 1)) {
+            final int minute = minutes.nextSetBit(hour == from.getHour() ? from.getMinute() : 0);
+            if (minute >= 0) {
+                return date.atTime(hour, minute);
+            }
+        }
+        return null;
+    }
+
+    private static Predicate<LocalDate> parseDayOfMonth(final String expression, final String field) {
+        if ("L".equals(field)) {
+            return date -> date.getDayOfMonth() == date.lengthOfMonth();
+        }
+        if ("LW".equals(field)) {
+            return date -> date.equals(nearestWeekday(date, date.lengthOfMonth()));
+        }
+        final Matcher nearestWeekday = NEAREST_WEEKDAY.matcher(field);
+        if (nearestWeekday.matches()) {
+            final int day = parseValue(expression, "Day-of-month", nearestWeekday.group(1), 1, 31, null);
+            return date -> date.equals(nearestWeekday(date, Math.min(day, date.lengthOfMonth())));
+        }
+
+        final BitSet daysOfMonth = parseField(expression, "Day-of-month", field, 1, 31, null);
+        return date -> daysOfMonth.get(date.getDayOfMonth());
+    }
+
+    private static Predicate<LocalDate> parseDayOfWeek(final String expression, final String field) {
+        final Matcher lastWeekday = LAST_WEEKDAY_OF_MONTH.matcher(field);
+        if (lastWeekday.matches()) {
+            // the last given weekday of the month, e.g. 6L is the last Friday
+            final int dayOfWeek = parseValue(expression, "Day-of-week", lastWeekday.group(1), 1, 7, DAY_OF_WEEK_NAMES);
+            return date -> cronDayOfWeek(date) == dayOfWeek && date.plusWeeks(1L).getMonth() != date.getMonth();
+        }
+        final Matcher nthWeekday = NTH_WEEKDAY_OF_MONTH.matcher(field);
+        if (nthWeekday.matches()) {
+            // the nth given weekday of the month, e.g. 2#1 is the first Monday
+            final int dayOfWeek = parseValue(expression, "Day-of-week", nthWeekday.group(1), 1, 7, DAY_OF_WEEK_NAMES);
+            final int week = Integer.parseInt(nthWeekday.group(2));
+            return date -> cronDayOfWeek(date) == dayOfWeek && (date.getDayOfMonth() - 1) / 7 + 1 == week;
+        }
+        if ("L".equals(field)) {
+            // on its own L is the last day of the week
+            return date -> cronDayOfWeek(date) == 7;
+        }
+
+        final BitSet daysOfWeek = parseField(expression, "Day-of-week", field, 1, 7, DAY_OF_WEEK_NAMES);
+        return date -> daysOfWeek.get(cronDayOfWeek(date));
+    }
+
+    /*
+    supports lists (a,b), ranges (a-b), wildcards (*) and increments (*\/n, a/n, a-b/n)
+     */
+    private static BitSet parseField(final String expression,
+                                     final String name,
+                                     final String field,
+                                     final int min,
+                                     final int max,
+                                     final Map<String, Integer> names) {
+        final BitSet values = new BitSet(max + 1);
+        for (String part : field.toUpperCase().split(",", -1)) {
+            String range = part;
+            int increment = 1;
+            final int slash = part.indexOf('/');
+            if (slash >= 0) {
+                range = part.substring(0, slash);
+                increment = parseValue(expression, name, part.substring(slash + 1), 1, max, null);
+            }
+
+            final int from;
+            int to;
+            if ("*".equals(range)) {
+                from = min;
+                to = max;
+            } else if (range.indexOf('-') > 0) {
+                final String[] bounds = range.split("-", -1);
+                if (bounds.length != 2) {
+                    throw invalid(expression, String.format("%s has a malformed range %s", name, part));
+                }
+                from = parseValue(expression, name, bounds[0], min, max, names);
+                to = parseValue(expression, name, bounds[1], min, max, names);
+                if (from > to) {
+                    throw invalid(expression, String.format("%s range %s runs backwards", name, part));
+                }
+            } else {
+                from = parseValue(expression, name, range, min, max, names);
+                // a/n starts at a and repeats until the end of the field
+                to = slash >= 0 ? max : from;
+            }
+
+            for (int value = from; value <= to; value += increment) {
+                values.set(value);
+            }
+        }
+        return values;
+    }
+
+    private static int parseValue(final String expression,
+                                  final String name,
+                                  final String value,
+                                  final int min,
+                                  final int max,
+                                  final Map<String, Integer> names) {
+        final Integer parsed;
+        if (names != null && names.containsKey(value)) {
+            parsed = names.get(value);
+        } else {
+            try {
+                parsed = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw invalid(expression, String.format("%s has an invalid value %s", name, value));
+            }
+        }
+
+        if (parsed < min || parsed > max) {
+            throw invalid(expression, String.format("%s value %s is outside %d-%d", name, value, min, max));
+        }
+        return parsed;
+    }
+
+    /*
+    the weekday closest to the given day that stays within the month
+     */
+    private static LocalDate nearestWeekday(final LocalDate date, final int day) {
+        final LocalDate target = date.withDayOfMonth(day);
+        if (target.getDayOfWeek() == DayOfWeek.SATURDAY) {
+            return day == 1 ? target.plusDays(2L) : target.minusDays(1L);
+        }
+        if (target.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            return day == target.lengthOfMonth() ? target.minusDays(2L) : target.plusDays(1L);
+        }
+        return target;
+    }
+
+    private static int cronDayOfWeek(final LocalDate date) {
+        // java.time counts from Monday = 1 to Sunday = 7
+        return date.getDayOfWeek().getValue() % 7 + 1;
+    }
+
+    private static Map<String, Integer> names(final String... names) {
+        final Map<String, Integer> values = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            values.put(names[i], i + 1);
+        }
+        return values;
+    }
+
+    private static IllegalArgumentException invalid(final String expression, final String reason) {
+        return new IllegalArgumentException(String.format("Invalid schedule %s: %s", expression, reason));
+    }
+}
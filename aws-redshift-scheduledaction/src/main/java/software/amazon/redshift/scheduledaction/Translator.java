@@ -1,12 +1,13 @@
 package software.amazon.redshift.scheduledaction;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import software.amazon.awssdk.services.redshift.model.CreateScheduledActionRequest;
 import software.amazon.awssdk.services.redshift.model.DeleteScheduledActionRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeScheduledActionsRequest;
 import software.amazon.awssdk.services.redshift.model.DescribeScheduledActionsResponse;
 import software.amazon.awssdk.services.redshift.model.ModifyScheduledActionRequest;
+import software.amazon.awssdk.services.redshift.model.PauseClusterMessage;
+import software.amazon.awssdk.services.redshift.model.ResizeClusterMessage;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterMessage;
 import software.amazon.awssdk.services.redshift.model.ScheduledActionState;
 import software.amazon.awssdk.services.redshift.model.ScheduledActionType;
 
@@ -22,7 +23,6 @@ import java.util.stream.Collectors;
  */
 
 public class Translator {
-    private static final Gson GSON = new GsonBuilder().create();
 
     /**
      * Request to create a resource
@@ -141,11 +141,51 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
-    private static ScheduledActionType translateToSdkTargetAction(software.amazon.redshift.scheduledaction.ScheduledActionType targetAction) {
-        return GSON.fromJson(GSON.toJson(targetAction), ScheduledActionType.class);
+    static ScheduledActionType translateToSdkTargetAction(final software.amazon.redshift.scheduledaction.ScheduledActionType targetAction) {
+        if (targetAction == null) {
+            return null;
+        }
+        final software.amazon.redshift.scheduledaction.ResizeClusterMessage resizeCluster = targetAction.getResizeCluster();
+        final software.amazon.redshift.scheduledaction.PauseClusterMessage pauseCluster = targetAction.getPauseCluster();
+        final software.amazon.redshift.scheduledaction.ResumeClusterMessage resumeCluster = targetAction.getResumeCluster();
+        return ScheduledActionType.builder()
+                .resizeCluster(resizeCluster == null ? null : ResizeClusterMessage.builder()
+                        .clusterIdentifier(resizeCluster.getClusterIdentifier())
+                        .clusterType(resizeCluster.getClusterType())
+                        .nodeType(resizeCluster.getNodeType())
+                        .numberOfNodes(resizeCluster.getNumberOfNodes())
+                        .classic(resizeCluster.getClassic())
+                        .build())
+                .pauseCluster(pauseCluster == null ? null : PauseClusterMessage.builder()
+                        .clusterIdentifier(pauseCluster.getClusterIdentifier())
+                        .build())
+                .resumeCluster(resumeCluster == null ? null : ResumeClusterMessage.builder()
+                        .clusterIdentifier(resumeCluster.getClusterIdentifier())
+                        .build())
+                .build();
     }
 
-    private static software.amazon.redshift.scheduledaction.ScheduledActionType translateToModelTargetAction(ScheduledActionType targetAction) {
-        return GSON.fromJson(GSON.toJson(targetAction), software.amazon.redshift.scheduledaction.ScheduledActionType.class);
+    static software.amazon.redshift.scheduledaction.ScheduledActionType translateToModelTargetAction(final ScheduledActionType targetAction) {
+        if (targetAction == null) {
+            return null;
+        }
+        final ResizeClusterMessage resizeCluster = targetAction.resizeCluster();
+        final PauseClusterMessage pauseCluster = targetAction.pauseCluster();
+        final ResumeClusterMessage resumeCluster = targetAction.resumeCluster();
+        return software.amazon.redshift.scheduledaction.ScheduledActionType.builder()
+                .resizeCluster(resizeCluster == null ? null : software.amazon.redshift.scheduledaction.ResizeClusterMessage.builder()
+                        .clusterIdentifier(resizeCluster.clusterIdentifier())
+                        .clusterType(resizeCluster.clusterType())
+                        .nodeType(resizeCluster.nodeType())
+                        .numberOfNodes(resizeCluster.numberOfNodes())
+                        .classic(resizeCluster.classic())
+                        .build())
+                .pauseCluster(pauseCluster == null ? null : software.amazon.redshift.scheduledaction.PauseClusterMessage.builder()
+                        .clusterIdentifier(pauseCluster.clusterIdentifier())
+                        .build())
+                .resumeCluster(resumeCluster == null ? null : software.amazon.redshift.scheduledaction.ResumeClusterMessage.builder()
+                        .clusterIdentifier(resumeCluster.clusterIdentifier())
+                        .build())
+                .build();
     }
 }
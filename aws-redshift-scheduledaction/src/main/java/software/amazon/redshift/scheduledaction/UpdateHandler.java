@@ -16,7 +16,6 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class UpdateHandler extends BaseHandlerStd {
-    private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -25,13 +24,21 @@ public class UpdateHandler extends BaseHandlerStd {
             final ProxyClient<RedshiftClient> proxyClient,
             final Logger logger) {
 
-        this.logger = logger;
+        if (isNoOpUpdate(request)) {
+            logger.log(String.format("%s %s is unchanged, skipping ModifyScheduledAction.",
+                    ResourceModel.TYPE_NAME, request.getDesiredResourceState().getScheduledActionName()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
+        final String previousSchedule = request.getPreviousResourceState() == null
+                ? null : request.getPreviousResourceState().getSchedule();
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+                .then(progress -> validateSchedule(progress, previousSchedule, logger))
                 .then(progress ->
                         proxy.initiate("AWS-Redshift-ScheduledAction::Update", proxyClient, progress.getResourceModel(), callbackContext)
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .makeServiceCall(this::modifyScheduledAction)
+                                .makeServiceCall((_awsRequest, _proxyClient) -> modifyScheduledAction(_awsRequest, _proxyClient, logger))
                                 .handleError(this::modifyScheduledActionsErrorHandler)
                                 .progress()
                 )
@@ -40,7 +47,8 @@ public class UpdateHandler extends BaseHandlerStd {
     }
 
     private ModifyScheduledActionResponse modifyScheduledAction(final ModifyScheduledActionRequest awsRequest,
-                                                                final ProxyClient<RedshiftClient> proxyClient) {
+                                                                final ProxyClient<RedshiftClient> proxyClient,
+                                                                final Logger logger) {
         ModifyScheduledActionResponse awsResponse;
         awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::modifyScheduledAction);
 
@@ -53,7 +53,7 @@ public class AbstractTestBase {
                         .clusterIdentifier("DummyClusterID")
                         .build())
                 .build();
-        SCHEDULE = "DummySchedule";
+        SCHEDULE = "cron(0 10 ? * MON *)";
         IAM_ROLE = "DummyIAMRole";
         SCHEDULED_ACTION_DESCRIPTION = "DummyDescription";
         STATE = ScheduledActionState.ACTIVE;
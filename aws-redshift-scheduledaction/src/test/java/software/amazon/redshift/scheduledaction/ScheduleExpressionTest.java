@@ -0,0 +1,131 @@
+package software.amazon.redshift.scheduledaction;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ScheduleExpressionTest extends AbstractTestBase {
+
+    @Test
+    public void nextInvocations_Weekly() {
+        final ScheduleExpression schedule = ScheduleExpression.parse("cron(0 10 ? * MON *)");
+
+        assertThat(schedule.nextInvocations(Instant.parse("2024-01-01T00:00:00Z"))
+                .limit(3)
+                .collect(Collectors.toList()))
+                .containsExactly(
+                        Instant.parse("2024-01-01T10:00:00Z"),
+                        Instant.parse("2024-01-08T10:00:00Z"),
+                        Instant.parse("2024-01-15T10:00:00Z"));
+    }
+
+    @Test
+    public void nextInvocations_ListsRangesAndIncrements() {
+        final ScheduleExpression schedule = ScheduleExpression.parse("cron(*/15 9-10 1,15 JAN-FEB ? 2024)");
+
+        assertThat(schedule.nextInvocations(Instant.parse("2024-01-01T09:20:00Z"))
+                .limit(7)
+                .collect(Collectors.toList()))
+                .containsExactly(
+                        Instant.parse("2024-01-01T09:30:00Z"),
+                        Instant.parse("2024-01-01T09:45:00Z"),
+                        Instant.parse("2024-01-01T10:00:00Z"),
+                        Instant.parse("2024-01-01T10:15:00Z"),
+                        Instant.parse("2024-01-01T10:30:00Z"),
+                        Instant.parse("2024-01-01T10:45:00Z"),
+                        Instant.parse("2024-01-15T09:00:00Z"));
+    }
+
+    @Test
+    public void nextInvocation_SpecialDays() {
+        assertThat(ScheduleExpression.parse("cron(0 0 L * ? *)").nextInvocation(Instant.parse("2024-02-01T00:00:00Z")))
+                .contains(Instant.parse("2024-02-29T00:00:00Z"));
+        // March 31st 2024 is a Sunday
+        assertThat(ScheduleExpression.parse("cron(0 0 LW * ? *)").nextInvocation(Instant.parse("2024-03-01T00:00:00Z")))
+                .contains(Instant.parse("2024-03-29T00:00:00Z"));
+        // June 15th 2024 is a Saturday
+        assertThat(ScheduleExpression.parse("cron(0 0 15W * ? *)").nextInvocation(Instant.parse("2024-06-01T00:00:00Z")))
+                .contains(Instant.parse("2024-06-14T00:00:00Z"));
+        // June 1st 2024 is a Saturday as well, the nearest weekday stays within the month
+        assertThat(ScheduleExpression.parse("cron(0 0 1W 6 ? 2024)").nextInvocation(Instant.parse("2024-05-31T00:00:00Z")))
+                .contains(Instant.parse("2024-06-03T00:00:00Z"));
+        assertThat(ScheduleExpression.parse("cron(0 0 ? * 6L *)").nextInvocation(Instant.parse("2024-03-01T00:00:00Z")))
+                .contains(Instant.parse("2024-03-29T00:00:00Z"));
+        assertThat(ScheduleExpression.parse("cron(0 0 ? * 2#1 *)").nextInvocation(Instant.parse("2024-03-05T00:00:00Z")))
+                .contains(Instant.parse("2024-04-01T00:00:00Z"));
+    }
+
+    @Test
+    public void nextInvocations_EndsWithTheSchedule() {
+        assertThat(ScheduleExpression.parse("at(2024-05-01T12:00:00)")
+                .nextInvocations(Instant.parse("2024-01-01T00:00:00Z"))
+                .collect(Collectors.toList()))
+                .isEqualTo(Collections.singletonList(Instant.parse("2024-05-01T12:00:00Z")));
+        assertThat(ScheduleExpression.parse("at(2024-05-01T12:00:00)").nextInvocation(Instant.parse("2024-06-01T00:00:00Z")))
+                .isEmpty();
+        assertThat(ScheduleExpression.parse("cron(0 0 1 1 ? 2024-2025)")
+                .nextInvocations(Instant.parse("2023-06-01T00:00:00Z"))
+                .collect(Collectors.toList()))
+                .isEqualTo(Arrays.asList(Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2025-01-01T00:00:00Z")));
+        // February never has a 30th
+        assertThat(ScheduleExpression.parse("cron(0 0 30 2 ? *)").nextInvocation(Instant.parse("2024-01-01T00:00:00Z")))
+                .isEmpty();
+    }
+
+    @Test
+    public void parse_RejectsMalformedSchedules() {
+        for (String schedule : Arrays.asList(
+                "rate(5 minutes)",
+                "cron(0 10 ? * MON)",
+                "cron(0 10 * * MON *)",
+                "cron(0 10 ? * ? *)",
+                "cron(60 10 ? * MON *)",
+                "cron(0 10-5 ? * MON *)",
+                "cron(0 10 ? FOO MON *)",
+                "cron(0 10 ? * MON 1969)",
+                "cron(*/0 10 ? * MON *)",
+                "at(2024-13-01T00:00:00)")) {
+            assertThatThrownBy(() -> ScheduleExpression.parse(schedule))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(schedule);
+        }
+    }
+
+    @Test
+    public void validateSchedule() {
+        final CreateHandler handler = new CreateHandler();
+
+        final ProgressEvent<ResourceModel, CallbackContext> valid = ProgressEvent.progress(
+                ResourceModel.builder().schedule("cron(0 10 ? * MON *)").build(), new CallbackContext());
+        assertThat(handler.validateSchedule(valid, null, logger)).isSameAs(valid);
+
+        final ProgressEvent<ResourceModel, CallbackContext> malformed = handler.validateSchedule(ProgressEvent.progress(
+                ResourceModel.builder().schedule("cron(0 10 ? * MON)").build(), new CallbackContext()), null, logger);
+        assertThat(malformed.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(malformed.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+
+        final ProgressEvent<ResourceModel, CallbackContext> expired = handler.validateSchedule(ProgressEvent.progress(
+                ResourceModel.builder().schedule("cron(0 10 ? * MON 2001)").build(), new CallbackContext()), null, logger);
+        assertThat(expired.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(expired.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+
+        // an existing action whose schedule already expired can still be updated otherwise
+        final ProgressEvent<ResourceModel, CallbackContext> unchanged = ProgressEvent.progress(
+                ResourceModel.builder().schedule("cron(0 10 ? * MON 2001)").build(), new CallbackContext());
+        assertThat(handler.validateSchedule(unchanged, "cron(0 10 ? * MON 2001)", logger)).isSameAs(unchanged);
+
+        // the syntax is still checked when the schedule is unchanged
+        final ProgressEvent<ResourceModel, CallbackContext> unchangedMalformed = handler.validateSchedule(ProgressEvent.progress(
+                ResourceModel.builder().schedule("cron(0 10 ? * MON)").build(), new CallbackContext()), "cron(0 10 ? * MON)", logger);
+        assertThat(unchangedMalformed.getStatus()).isEqualTo(OperationStatus.FAILED);
+    }
+}
@@ -0,0 +1,57 @@
+package software.amazon.redshift.scheduledaction;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.redshift.model.PauseClusterMessage;
+import software.amazon.awssdk.services.redshift.model.ResizeClusterMessage;
+import software.amazon.awssdk.services.redshift.model.ResumeClusterMessage;
+import software.amazon.awssdk.services.redshift.model.ScheduledActionType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorTest {
+
+    @Test
+    public void translateTargetAction_ResizeCluster() {
+        final ScheduledActionType targetAction = ScheduledActionType.builder()
+                .resizeCluster(ResizeClusterMessage.builder()
+                        .clusterIdentifier("DummyClusterID")
+                        .clusterType("multi-node")
+                        .nodeType("ra3.4xlarge")
+                        .numberOfNodes(4)
+                        .classic(false)
+                        .build())
+                .build();
+
+        final software.amazon.redshift.scheduledaction.ScheduledActionType modelTargetAction = Translator.translateToModelTargetAction(targetAction);
+
+        assertThat(modelTargetAction.getResizeCluster()).isEqualTo(software.amazon.redshift.scheduledaction.ResizeClusterMessage.builder()
+                .clusterIdentifier("DummyClusterID")
+                .clusterType("multi-node")
+                .nodeType("ra3.4xlarge")
+                .numberOfNodes(4)
+                .classic(false)
+                .build());
+        assertThat(modelTargetAction.getPauseCluster()).isNull();
+        assertThat(modelTargetAction.getResumeCluster()).isNull();
+        assertThat(Translator.translateToSdkTargetAction(modelTargetAction)).isEqualTo(targetAction);
+    }
+
+    @Test
+    public void translateTargetAction_PauseAndResumeCluster() {
+        final ScheduledActionType pauseCluster = ScheduledActionType.builder()
+                .pauseCluster(PauseClusterMessage.builder().clusterIdentifier("DummyClusterID").build())
+                .build();
+        final ScheduledActionType resumeCluster = ScheduledActionType.builder()
+                .resumeCluster(ResumeClusterMessage.builder().clusterIdentifier("DummyClusterID").build())
+                .build();
+
+        assertThat(Translator.translateToSdkTargetAction(Translator.translateToModelTargetAction(pauseCluster))).isEqualTo(pauseCluster);
+        assertThat(Translator.translateToSdkTargetAction(Translator.translateToModelTargetAction(resumeCluster))).isEqualTo(resumeCluster);
+    }
+
+    @Test
+    public void translateTargetAction_Null() {
+        assertThat(Translator.translateToSdkTargetAction(null)).isNull();
+        assertThat(Translator.translateToModelTargetAction(null)).isNull();
+    }
+}